@@ -0,0 +1,75 @@
+package com.axonivy.github.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.io.input.CharSequenceReader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.axonivy.github.file.FileReference;
+import com.axonivy.github.file.GitHubFiles;
+import com.axonivy.github.file.ReferenceContent;
+
+/**
+ * EOL-insensitive comparison of a remote file against a reference file: the former Reader based
+ * comparison next to the streaming {@link ReferenceContent#firstDifference} the file rules use now.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ContentCompareBenchmark {
+
+  @Param({"license", "synthetic"})
+  String content;
+
+  private FileReference license;
+  private byte[] reference;
+  private byte[] remote;
+  private ReferenceContent referenceContent;
+
+  @Setup
+  public void setup() throws IOException {
+    license = new FileReference(GitHubFiles.LICENSE);
+    if ("license".equals(content)) {
+      reference = license.content();
+    } else {
+      reference = Synthetic.text(2_000, "\n").getBytes(StandardCharsets.UTF_8);
+    }
+    remote = new String(reference, StandardCharsets.UTF_8).replace("\n", "\r\n").getBytes(StandardCharsets.UTF_8);
+    referenceContent = ReferenceContent.of(reference);
+  }
+
+  @Benchmark
+  public byte[] loadReference() throws IOException {
+    return license.content();
+  }
+
+  @Benchmark
+  public boolean contentEqualsIgnoreEol() throws IOException {
+    Reader targetContent = new CharSequenceReader(new String(reference));
+    Reader actualContent = new CharSequenceReader(new String(remote));
+    return IOUtils.contentEqualsIgnoreEOL(targetContent, actualContent);
+  }
+
+  @Benchmark
+  public long firstDifference() throws IOException {
+    return referenceContent.firstDifference(new ByteArrayInputStream(remote));
+  }
+}
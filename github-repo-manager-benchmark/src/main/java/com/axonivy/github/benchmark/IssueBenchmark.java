@@ -0,0 +1,79 @@
+package com.axonivy.github.benchmark;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.axonivy.github.scan.Issue;
+import com.axonivy.github.scan.IssueSet;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class IssueBenchmark {
+
+  @Param({"10000", "100000"})
+  int commits;
+
+  private List<String> titles;
+  private List<Issue> issues;
+
+  @Setup
+  public void setup() {
+    titles = Synthetic.commitTitles(commits);
+    issues = new ArrayList<>(Synthetic.issues(commits));
+    Collections.shuffle(issues, new Random(42));
+  }
+
+  @Benchmark
+  public void fromString(Blackhole hole) {
+    for (var title : titles) {
+      Issue.fromString(title).forEach(hole::consume);
+    }
+  }
+
+  @Benchmark
+  public IssueSet scanIntoIssueSet() {
+    var set = new IssueSet();
+    for (var title : titles) {
+      set.addAll(title);
+    }
+    return set;
+  }
+
+  @Benchmark
+  public int hashSet() {
+    return new HashSet<>(issues).size();
+  }
+
+  @Benchmark
+  public Object sort() {
+    var copy = new ArrayList<>(issues);
+    copy.sort(null);
+    return copy;
+  }
+
+  @Benchmark
+  public long[] issueSetSort() {
+    return IssueSet.of(issues).sortedKeys();
+  }
+}
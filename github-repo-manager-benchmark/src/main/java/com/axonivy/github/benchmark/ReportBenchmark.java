@@ -0,0 +1,83 @@
+package com.axonivy.github.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.axonivy.github.scan.Issue;
+import com.axonivy.github.scan.IssueSet;
+import com.axonivy.github.scan.ScanIssueReporter;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ReportBenchmark {
+
+  @Param({"10000", "100000", "1000000"})
+  int issues;
+
+  @Param({"html", "json"})
+  String format;
+
+  private Set<Issue> logIssues;
+  private Set<Issue> rnIssues;
+  private IssueSet logIssueSet;
+  private IssueSet rnIssueSet;
+  private Path dir;
+  private Path report;
+
+  @Setup
+  public void setup() throws IOException {
+    var all = Synthetic.issues(issues);
+    logIssues = Set.copyOf(all);
+    rnIssues = Set.copyOf(Synthetic.issues(issues / 2));
+    logIssueSet = IssueSet.of(logIssues);
+    rnIssueSet = IssueSet.of(rnIssues);
+    dir = Files.createTempDirectory("report-benchmark");
+  }
+
+  @Setup(Level.Invocation)
+  public void newReport() throws IOException {
+    report = dir.resolve("report." + format);
+    Files.deleteIfExists(report);
+  }
+
+  @Benchmark
+  public void reportSets() throws IOException {
+    try (var reporter = new ScanIssueReporter(report)) {
+      reporter.report("v10.0.0", logIssues, rnIssues);
+    }
+  }
+
+  @Benchmark
+  public void reportIssueSets() throws IOException {
+    try (var reporter = new ScanIssueReporter(report)) {
+      reporter.report("v10.0.0", logIssueSet, rnIssueSet);
+    }
+  }
+
+  @TearDown
+  public void tearDown() throws IOException {
+    Files.deleteIfExists(report);
+    Files.deleteIfExists(dir);
+  }
+}
@@ -0,0 +1,56 @@
+package com.axonivy.github.benchmark;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import com.axonivy.github.scan.Issue;
+
+/**
+ * Reproducible input data for the benchmarks.
+ */
+final class Synthetic {
+
+  private static final String[] WORDS = {"fix", "update", "dependency", "Merge", "pull", "request", "from",
+      "axonivy/", "release", "cockpit", "engine", "the", "of", "in", "and"};
+
+  private Synthetic() {}
+
+  static List<String> commitTitles(int count) {
+    var random = new Random(42);
+    var titles = new ArrayList<String>(count);
+    for (var i = 0; i < count; i++) {
+      var title = new StringBuilder();
+      var words = 4 + random.nextInt(8);
+      for (var w = 0; w < words; w++) {
+        if (random.nextInt(6) == 0) {
+          title.append(random.nextBoolean() ? "XIVY-" : "xivy-").append(random.nextInt(20_000));
+        } else {
+          title.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        title.append(' ');
+      }
+      titles.add(title.toString());
+    }
+    return titles;
+  }
+
+  static Set<Issue> issues(int count) {
+    var random = new Random(42);
+    var issues = new LinkedHashSet<Issue>(count * 2);
+    while (issues.size() < count) {
+      issues.add(new Issue("XIVY", random.nextInt(count * 4)));
+    }
+    return issues;
+  }
+
+  static String text(int lines, String eol) {
+    var text = new StringBuilder();
+    for (var i = 0; i < lines; i++) {
+      text.append("Licensed under the Apache License, Version 2.0 (the \"License\"); line ").append(i).append(eol);
+    }
+    return text.toString();
+  }
+}
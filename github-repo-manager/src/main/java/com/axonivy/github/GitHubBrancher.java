@@ -1,17 +1,29 @@
 package com.axonivy.github;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
 
 import org.apache.commons.lang3.StringUtils;
 import org.kohsuke.github.GHRepository;
 
+import com.axonivy.github.ReleaseResult.Status;
+
 public class GitHubBrancher {
 
   public static void main(String[] args) {
+    run(StringUtils.trimToEmpty(args[0]));
+  }
+
+  /**
+   * Branches all repositories of {@link GitHubRepos#REPOS_TO_BRANCH}.
+   * @param minorVersion e.g. <code>12.0</code>
+   */
+  public static void run(String minorVersion) {
     var github = GitHubProvider.get();
 
     var dryRun = DryRun.is();
-    var minorVersion = StringUtils.trimToEmpty(args[0]);
 
     System.out.println("Start GitHub repository branching");
     System.out.println("dryRun: " + dryRun);
@@ -29,9 +41,21 @@ public class GitHubBrancher {
 
       var branch = "release/" + minorVersion;
       var baseTag = "base" + minorVersion;
-      for (var repo : repos) {
-        var r = github.getRepository("axonivy/" + repo);
-        new Brancher(r, dryRun, branch, baseTag, minorVersion).run();
+      var states = RepoStates.loadOrNone(GitHubProvider.graphQl(), repos, List.of("heads/" + branch, "tags/" + baseTag));
+      var results = new ReleaseEngine(github, ReleaseJournal.load(), states).run(repos, new ReleaseEngine.Release() {
+
+        @Override
+        public Set<String> steps() {
+          return Set.of(Brancher.branchStep(branch), Brancher.tagStep(baseTag));
+        }
+
+        @Override
+        public ReleaseResult run(GHRepository repo, ReleaseJournal journal) throws IOException {
+          return new Brancher(repo, dryRun, branch, baseTag, minorVersion).run(journal);
+        }
+      });
+      if (ReleaseEngine.hasFailures(results)) {
+        throw new IllegalStateException("Branching failed for some repositories, run again to continue");
       }
     } catch (Exception ex) {
       throw new RuntimeException(ex);
@@ -44,7 +68,6 @@ public class GitHubBrancher {
     private final boolean dryRun;
     private final String branch;
     private final String tag;
-    private final String message;
     private final String minorVersion;
 
     public Brancher(GHRepository repo, boolean dryRun, String branch, String tag, String minorVersion) {
@@ -52,49 +75,77 @@ public class GitHubBrancher {
       this.dryRun = dryRun;
       this.branch = branch;
       this.tag = tag;
-      this.message = tag;
       this.minorVersion = minorVersion;
     }
 
-    public void run() {
+    static String branchStep(String branch) {
+      return "branch " + branch;
+    }
+
+    static String tagStep(String tag) {
+      return "tag " + tag;
+    }
+
+    public ReleaseResult run() {
       try {
-        if (repo.isArchived()) {
-          System.out.println("Skipping archived repo " + repo.getFullName());
-          return;
-        }
-        if (repo.getBranches().containsKey(branch)) {
-          System.out.println("Skipping repo " + repo.getFullName() + " because it has already a branch " + branch);
-          return;
-        }
+        var result = run(ReleaseJournal.none());
+        result.messages().forEach(System.out::println);
+        return result;
+      } catch (IOException ex) {
+        throw new RuntimeException(ex);
+      }
+    }
 
-        var ghBranch = repo.getBranch(repo.getDefaultBranch());
-        var sha1 = ghBranch.getSHA1();
-        if (dryRun) {
-          System.out.print("DRYRUN: ");
+    /**
+     * Creates the branch and then the base tag on it. A step the journal knows is not repeated, so a rerun
+     * tags the commit the branch has been created on even if the branch moved on since.
+     */
+    public ReleaseResult run(ReleaseJournal journal) throws IOException {
+      var name = repo.getFullName();
+      var messages = new ArrayList<String>();
+      if (repo.isArchived()) {
+        messages.add("Skipping archived repo " + name);
+        return new ReleaseResult(name, Status.SKIPPED, "", messages);
+      }
+      var refs = RefResolver.get();
+      var status = Status.UP_TO_DATE;
+      var sha1 = journal.sha(name, branchStep(branch)).orElse(null);
+      if (sha1 == null) {
+        if (refs.branch(repo, branch).isPresent()) {
+          messages.add("Skipping repo " + name + " because it has already a branch " + branch);
+          return new ReleaseResult(name, Status.SKIPPED, "", messages);
         }
-        System.out.println("Create branch " + branch + " on " + repo.getFullName() + " ~ " + branch + " ~ " + sha1);
+        sha1 = refs.branch(repo, repo.getDefaultBranch()).orElseThrow();
+        messages.add(dryRunPrefix() + "Create branch " + branch + " on " + name + " ~ " + branch + " ~ " + sha1);
         if (!dryRun) {
           repo.createRef("refs/heads/" + branch, sha1);
+          refs.branchCreated(repo, branch, sha1);
+          journal.done(name, branchStep(branch), sha1);
         }
+        status = dryRun ? Status.DRYRUN : Status.CREATED;
+      }
 
-        if (dryRun) {
-          System.out.print("DRYRUN: ");
+      var existingTag = journal.sha(name, tagStep(tag));
+      if (existingTag.isEmpty()) {
+        existingTag = refs.tag(repo, tag);
+      }
+      if (existingTag.isPresent()) {
+        if (!dryRun) {
+          journal.done(name, tagStep(tag), existingTag.get());
         }
-        System.out.println("Create tag " + tag + " on " + repo.getFullName() + " ~ " + branch + " ~ " + sha1);
+      } else {
+        messages.add(dryRunPrefix() + "Create tag " + tag + " on " + name + " ~ " + branch + " ~ " + sha1);
         if (!dryRun) {
-          // we create a release and delete it again
-          // but the annotated tag still exists
-          // I don't know how I could create a annotated tag elseway
-          repo.createRelease(tag)
-            .name(message)
-            .body("Branching for " + minorVersion)
-            .commitish(sha1)
-            .create()
-            .delete();
+          refs.createTag(repo, tag, "Branching for " + minorVersion, sha1);
+          journal.done(name, tagStep(tag), sha1);
         }
-      } catch (IOException ex) {
-        throw new RuntimeException(ex);
+        status = dryRun ? Status.DRYRUN : Status.CREATED;
       }
+      return new ReleaseResult(name, status, sha1, messages);
+    }
+
+    private String dryRunPrefix() {
+      return dryRun ? "DRYRUN: " : "";
     }
   }
 }
@@ -1,26 +1,39 @@
 package com.axonivy.github;
 
 import java.io.IOException;
+import java.nio.CharBuffer;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Date;
-import java.util.HashSet;
-import java.util.Set;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.StringUtils;
 import org.kohsuke.github.GHCommit;
+import org.kohsuke.github.GHCompare;
+import org.kohsuke.github.GHFileNotFoundException;
 import org.kohsuke.github.GHRepository;
+import org.kohsuke.github.GitHub;
 
 import com.axonivy.github.scan.Issue;
+import com.axonivy.github.scan.IssueSet;
 import com.axonivy.github.scan.ScanIssueReporter;
+import com.axonivy.github.scan.ScanState;
+import com.axonivy.github.scan.ScanState.Cursor;
 
 public class GitHubIssueScanner {
 
   public static void main(String[] args) throws IOException {
     if (args.length != 4) {
-      throw new IllegalArgumentException("Wrong number of params (4) got " +args.length+": tagVersion branch releaseNotesFile outputFile");
+      throw new IllegalArgumentException("Wrong number of params (4) got " +args.length+": tagVersion branch releaseNotesFile outputFile[,outputFile]");
     }
     var tagVersion = args[0];// "8.0.25";
     var branchName = args[1];
@@ -33,88 +46,210 @@ public class GitHubIssueScanner {
 
     var rnIssues = scanReleaseNotesIssues(releaseNotesFile);
     var tagName = "v" + tagVersion;
-    var reporter = new ScanIssueReporter(Paths.get(outputFile));
-    var logIssues = scanLogIssues(tagVersion, branchName, tagName, reporter);
-    reporter.report(tagName, logIssues, rnIssues);
+    var outputs = Arrays.stream(StringUtils.split(outputFile, ','))
+        .map(String::trim)
+        .map(Paths::get)
+        .toArray(Path[]::new);
+    try (var reporter = new ScanIssueReporter(outputs)) {
+      var logIssues = scanLogIssues(tagVersion, branchName, tagName, reporter);
+      reporter.report(tagName, logIssues, rnIssues);
+    }
   }
 
-  private static HashSet<Issue> scanLogIssues(String version, String branchName, String tagName,
+  private static IssueSet scanLogIssues(String version, String branchName, String tagName,
           ScanIssueReporter reporter) throws IOException {
     reporter.print("Start scanning issues ...");
     var github = GitHubProvider.get();
     if (StringUtils.isBlank(branchName)) {
       branchName = "release/" + StringUtils.substringBeforeLast(version, ".");
     }
-    var issues = new HashSet<Issue>();
-    for (var repoName : GitHubRepos.repos(version)) {
-      var repo = github.getRepository("axonivy/" + repoName);
-
-      reporter.setRepo(repo);
-      reporter.print("Start scanning");
-      var since = findSince(repo, tagName);
-      if (since == null) {
-        reporter.print("Skipping repo because there is no tag " + tagName);
-        continue;
+    var branch = branchName;
+    var state = loadState();
+    var repoNames = GitHubRepos.repos(version);
+    RefResolver.get().preload(RepoStates.loadOrNone(GitHubProvider.graphQl(), repoNames, List.of("tags/" + tagName, "heads/" + branch)));
+    var executor = Executors.newFixedThreadPool(Math.max(1, Math.min(threads(), repoNames.size())));
+    try {
+      var scans = new LinkedHashMap<String, Future<RepoScan>>();
+      for (var repoName : repoNames) {
+        var cursor = state.flatMap(s -> s.cursor(repoName, branch)).orElse(null);
+        scans.put(repoName, executor.submit(() -> scanRepo(github, repoName, branch, tagName, cursor)));
       }
-
-      var until = findUntil(repo, branchName);
-      if (until == null) {
-        reporter.print("Skipping repo because there is no branch " + branchName);
-        continue;
+      var issues = new IssueSet();
+      for (var scan : scans.entrySet()) {
+        var repoScan = await(scan.getValue());
+        reporter.setRepo(repoScan.repo());
+        repoScan.messages().forEach(reporter::print);
+        issues.addAll(repoScan.issues());
+        state.ifPresent(s -> s.update(scan.getKey(), branch, repoScan.cursor()));
       }
-
-      var issuesFound = collectIssues(repo, branchName, since, until);
-      if (issuesFound.isEmpty()) {
-        reporter.print("No issues found");
-      } else {
-        var issueList = issuesFound.stream().sorted().map(Issue::toString).collect(Collectors.joining(", ", "[", "]"));
-        reporter.print("Found " + issuesFound.size() + " issues " + issueList);
+      if (state.isPresent()) {
+        state.get().save();
       }
-      issues.addAll(issuesFound);
+      return issues;
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private static Optional<ScanState> loadState() throws IOException {
+    var file = System.getProperty("GITHUB.SCAN.STATE.FILE");
+    if (StringUtils.isBlank(file)) {
+      return Optional.empty();
+    }
+    return Optional.of(ScanState.load(Path.of(file)));
+  }
+
+  private static RepoScan scanRepo(GitHub github, String repoName, String branchName, String tagName, Cursor cursor) throws IOException {
+    var repo = github.getRepository("axonivy/" + repoName);
+    RepoMetadata.get().record(repo);
+    var messages = new ArrayList<String>();
+    messages.add("Start scanning");
+    var tagSha = RefResolver.get().tag(repo, tagName);
+    if (tagSha.isEmpty()) {
+      messages.add("Skipping repo because there is no tag " + tagName);
+      return new RepoScan(repo, messages, new IssueSet(), null);
+    }
+    var headSha = RefResolver.get().branch(repo, branchName);
+    if (headSha.isEmpty()) {
+      messages.add("Skipping repo because there is no branch " + branchName);
+      return new RepoScan(repo, messages, new IssueSet(), null);
+    }
+
+    var issuesFound = collectIncremental(repo, tagName, tagSha.get(), headSha.get(), cursor, messages);
+    if (issuesFound == null) {
+      issuesFound = collectIssues(repo, tagSha.get(), headSha.get());
     }
+    if (issuesFound == null) {
+      messages.add("Compare " + tagName + "..." + branchName + " is truncated, scanning commits by date");
+      issuesFound = collectIssues(repo, branchName, findSince(repo, tagName), findUntil(repo, branchName));
+    }
+    if (issuesFound.isEmpty()) {
+      messages.add("No issues found");
+    } else {
+      var issueList = issuesFound.stream().map(Issue::toString).collect(Collectors.joining(", ", "[", "]"));
+      messages.add("Found " + issuesFound.size() + " issues " + issueList);
+    }
+    return new RepoScan(repo, messages, issuesFound, Cursor.of(tagName, tagSha.get(), headSha.get(), issuesFound));
+  }
+
+  /**
+   * Continues a previous scan from its cursor.
+   * @return the issues or <code>null</code> if the whole range has to be rescanned
+   */
+  private static IssueSet collectIncremental(GHRepository repo, String tagName, String tagSha, String headSha,
+          Cursor cursor, List<String> messages) throws IOException {
+    if (cursor == null) {
+      return null;
+    }
+    if (!tagName.equals(cursor.tag()) || !tagSha.equals(cursor.tagSha())) {
+      messages.add("Tag " + tagName + " changed since last scan, rescanning");
+      return null;
+    }
+    var issues = cursor.toIssues();
+    if (headSha.equals(cursor.headSha())) {
+      messages.add("No new commits since last scan");
+      return issues;
+    }
+    GHCompare compare;
+    try {
+      compare = compare(repo, cursor.headSha(), headSha);
+    } catch (GHFileNotFoundException ex) {
+      messages.add("Last scanned commit " + cursor.headSha() + " is gone, rescanning");
+      return null;
+    }
+    if (compare.getStatus() != GHCompare.Status.ahead) {
+      messages.add("Branch was rewritten since last scan, rescanning");
+      return null;
+    }
+    var newIssues = collectIssues(compare);
+    if (newIssues == null) {
+      return null;
+    }
+    messages.add("Scanned " + compare.getTotalCommits() + " new commits since last scan");
+    issues.addAll(newIssues);
     return issues;
   }
 
-  private static Set<Issue> scanReleaseNotesIssues(String releaseNotesFile) throws IOException {
-    return Files.readAllLines(Path.of(releaseNotesFile))
-        .stream()
-        .flatMap(Issue::fromString)
-        .collect(Collectors.toSet());
+  private static GHCompare compare(GHRepository repo, String base, String head) throws IOException {
+    repo.setCompareUsePaginatedCommits(true);
+    return repo.getCompare(base, head);
+  }
+
+  private static RepoScan await(Future<RepoScan> scan) throws IOException {
+    try {
+      return scan.get();
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Scan interrupted", ex);
+    } catch (ExecutionException ex) {
+      if (ex.getCause() instanceof IOException ioEx) {
+        throw ioEx;
+      }
+      throw new RuntimeException(ex.getCause());
+    }
+  }
+
+  private static int threads() {
+    return Integer.getInteger("GITHUB.SCAN.THREADS", 1);
+  }
+
+  private static IssueSet scanReleaseNotesIssues(String releaseNotesFile) throws IOException {
+    return IssueSet.scan(Files.readString(Path.of(releaseNotesFile)));
+  }
+
+  /**
+   * Streams the commits reachable from the branch but not from the tag.
+   * @return the issues or <code>null</code> if GitHub delivered fewer commits than the compare contains
+   */
+  private static IssueSet collectIssues(GHRepository repo, String base, String head) throws IOException {
+    return collectIssues(compare(repo, base, head));
+  }
+
+  private static IssueSet collectIssues(GHCompare compare) throws IOException {
+    var issues = new IssueSet();
+    var commits = 0;
+    for (var commit : compare.listCommits()) {
+      commits++;
+      var title = parseTitle(commit);
+      issues.addAll(title);
+    }
+    if (commits < compare.getTotalCommits()) {
+      return null;
+    }
+    return issues;
   }
 
-  private static Set<Issue> collectIssues(GHRepository repo, String branchName, Date since, Date until) throws IOException {
-    var issues = new HashSet<Issue>();
+  private static IssueSet collectIssues(GHRepository repo, String branchName, Date since, Date until) throws IOException {
+    var issues = new IssueSet();
     for (var commit : repo.queryCommits().from(branchName).since(since).until(until).list()) {
       var title = parseTitle(commit);
-      issues.addAll(Issue.fromString(title).toList());
+      issues.addAll(title);
     }
     return issues;
   }
 
-  private static String parseTitle(GHCommit commit) throws IOException {
-    return commit.getCommitShortInfo().getMessage().lines().limit(1).collect(Collectors.joining());
+  private static CharSequence parseTitle(GHCommit commit) throws IOException {
+    var message = commit.getCommitShortInfo().getMessage();
+    var end = StringUtils.indexOfAny(message, '\n', '\r');
+    return CharBuffer.wrap(message, 0, end < 0 ? message.length() : end);
   }
 
   private static Date findSince(GHRepository repo, String tagName) throws IOException {
-    var tags = repo.listTags().iterator();
-    while (tags.hasNext()) {
-      var tag = tags.next();
-      if (!tagName.equals(tag.getName())) {
-        continue;
-      }
-      var time =  tag.getCommit().getCommitDate().getTime();
-      return new Date(time + 1000); // add one second to have not the commit of this tag itself
+    var sha = RefResolver.get().tag(repo, tagName);
+    if (sha.isEmpty()) {
+      return null;
     }
-    return null;
+    var time = RefResolver.get().commitDate(repo, sha.get()).getTime();
+    return new Date(time + 1000); // add one second to have not the commit of this tag itself
   }
 
   private static Date findUntil(GHRepository repo, String branchName) throws IOException {
-    if (!repo.getBranches().keySet().contains(branchName)) {
+    var sha = RefResolver.get().branch(repo, branchName);
+    if (sha.isEmpty()) {
       return null;
     }
-
-    var branch = repo.getBranch(branchName);
-    var sha1 = branch.getSHA1();
-    return repo.getCommit(sha1).getCommitDate();
+    return RefResolver.get().commitDate(repo, sha.get());
   }
+
+  private record RepoScan(GHRepository repo, List<String> messages, IssueSet issues, Cursor cursor) {}
 }
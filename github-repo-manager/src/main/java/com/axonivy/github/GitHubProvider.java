@@ -2,21 +2,58 @@ package com.axonivy.github;
 
 import java.io.File;
 import java.io.IOException;
+import java.net.URL;
+import java.net.http.HttpClient;
 import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
+import org.apache.commons.lang3.StringUtils;
 import org.kohsuke.github.GitHub;
 import org.kohsuke.github.GitHubBuilder;
+import org.kohsuke.github.connector.GitHubConnector;
+import org.kohsuke.github.extras.HttpClientGitHubConnector;
+
+import com.axonivy.github.connector.ApiMetrics;
+import com.axonivy.github.connector.CachingConnector;
+import com.axonivy.github.connector.ConnectorMode;
+import com.axonivy.github.connector.GraphQlClient;
+import com.axonivy.github.connector.MetricsConnector;
+import com.axonivy.github.connector.RequestScheduler;
 
 public class GitHubProvider {
 
+  private static final String REPLAY_TOKEN = "replay";
+  private static final String GRAPHQL_URL = "https://api.github.com/graphql";
+  private static final Map<String, GitHub> clients = new ConcurrentHashMap<>();
+  private static GitHubConnector connector;
+  private static String connectorSettings;
+
   public static GitHub get() {
+    return build(token());
+  }
+
+  /**
+   * @return a client for GraphQL queries that authenticates like {@link #get()}
+   */
+  public static GraphQlClient graphQl() {
+    try {
+      return new GraphQlClient(new MetricsConnector(connector(), tool()), new URL(GRAPHQL_URL), token());
+    } catch (IOException ex) {
+      throw new RuntimeException(ex);
+    }
+  }
+
+  private static String token() {
+    if (ConnectorMode.get() == ConnectorMode.REPLAY) {
+      return REPLAY_TOKEN;
+    }
     var file = System.getProperty("GITHUB.TOKEN.FILE", "github.token");
     var path = new File(file).toPath();
     try {
-      var token = Files.readString(path);
-      return new GitHubBuilder()
-              .withOAuthToken(token)
-              .build();
+      return Files.readString(path).trim();
     } catch (IOException ex) {
       throw new RuntimeException(ex);
     }
@@ -24,8 +61,110 @@ public class GitHubProvider {
 
   public static GitHub getGithubToken() {
     String token = System.getProperty("GITHUB.TOKEN");
+    if (ConnectorMode.get() == ConnectorMode.REPLAY) {
+      token = REPLAY_TOKEN;
+    }
+    return build(token);
+  }
+
+  /**
+   * @return the connector for the current <code>GITHUB.CONNECTOR</code> settings, rebuilt with the clients on it
+   *         when they changed
+   */
+  private static synchronized GitHubConnector connector() throws IOException {
+    var settings = ConnectorMode.settings();
+    if (connector == null) {
+      printAtExit(ApiMetrics.get()::statistics);
+      exportMetricsAtExit();
+    }
+    if (connector == null || !settings.equals(connectorSettings)) {
+      var mode = ConnectorMode.get();
+      if (mode == ConnectorMode.REPLAY) {
+        connector = mode.connector(GitHubConnector.OFFLINE);
+      } else {
+        var scheduler = new RequestScheduler(new HttpClientGitHubConnector(httpClient()), Integer.getInteger("GITHUB.MAX.CONCURRENCY", 8));
+        printAtExit(scheduler::statistics);
+        connector = mode.connector(cache(scheduler));
+      }
+      connectorSettings = settings;
+      clients.clear();
+    }
+    return connector;
+  }
+
+  /**
+   * One pooled HTTP/2 client for the whole JVM, so all tools of a {@link GitHubRunner} batch share its connections.
+   */
+  private static HttpClient httpClient() {
+    return HttpClient.newBuilder()
+        .version(HttpClient.Version.HTTP_2)
+        .followRedirects(HttpClient.Redirect.NORMAL)
+        .build();
+  }
+
+  private static GitHubConnector cache(GitHubConnector live) throws IOException {
+    var dir = System.getProperty("GITHUB.CACHE.DIR");
+    if (StringUtils.isBlank(dir)) {
+      return live;
+    }
+    var maxBytes = Long.getLong("GITHUB.CACHE.MAX.MB", 200) * 1024 * 1024;
+    var cache = new CachingConnector(live, Path.of(dir), maxBytes);
+    printAtExit(cache::statistics);
+    return cache;
+  }
+
+  private static void exportMetricsAtExit() {
+    var dir = System.getProperty("GITHUB.METRICS.DIR");
+    if (StringUtils.isBlank(dir)) {
+      return;
+    }
+    Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+      try {
+        ApiMetrics.get().writeJson(Path.of(dir, "github-metrics.json"));
+        ApiMetrics.get().writePrometheus(Path.of(dir, "github-metrics.prom"));
+      } catch (IOException ex) {
+        System.err.println("Cannot write GitHub API metrics: " + ex.getMessage());
+      }
+    }));
+  }
+
+  /**
+   * @return the name of the tool asking for a client, <code>GITHUB.TOOL</code> or the class calling the provider
+   */
+  private static String tool() {
+    var tool = System.getProperty("GITHUB.TOOL");
+    if (StringUtils.isNotBlank(tool)) {
+      return tool;
+    }
+    return StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE)
+        .walk(frames -> frames.map(StackWalker.StackFrame::getDeclaringClass)
+            .filter(type -> type != GitHubProvider.class)
+            .findFirst())
+        .map(Class::getSimpleName)
+        .orElse("unknown");
+  }
+
+  private static void printAtExit(Supplier<String> statistics) {
+    Runtime.getRuntime().addShutdownHook(new Thread(() -> System.out.println(statistics.get())));
+  }
+
+  /**
+   * @return the client of the calling tool, built once per token and tool
+   */
+  private static GitHub build(String token) {
+    var tool = tool();
     try {
-      return new GitHubBuilder().withOAuthToken(token).build();
+      var shared = connector();
+      return clients.computeIfAbsent(token + "@" + tool, key -> {
+        try {
+          return new GitHubBuilder()
+                  .withOAuthToken(token)
+                  .withConnector(new MetricsConnector(shared, tool))
+                  .build();
+        } catch (IOException ex) {
+          throw new RuntimeException(ex);
+        }
+      });
     } catch (IOException ex) {
       throw new RuntimeException(ex);
     }
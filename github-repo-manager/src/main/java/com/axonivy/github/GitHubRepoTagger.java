@@ -3,17 +3,25 @@ package com.axonivy.github;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 import org.kohsuke.github.GHRepository;
 
+import com.axonivy.github.ReleaseResult.Status;
+
 public class GitHubRepoTagger {
 
   public static void main(String[] args) {
+    run(args[0], args[1]);
+  }
+
+  /**
+   * Tags the head of the branch in all repositories that belong to it.
+   */
+  public static void run(String branch, String tag) {
     var github = GitHubProvider.get();
 
     var dryRun = DryRun.is();
-    var branch = args[0];
-    var tag = args[1];
 
     System.out.println("Start GitHub repository tagging");
     System.out.println("dryRun: " + dryRun);
@@ -30,9 +38,21 @@ public class GitHubRepoTagger {
         repos = GitHubRepos.REPOS_TO_TAG;
       }
 
-      for (var repo : repos) {
-        var r = github.getRepository("axonivy/" + repo);
-        new Tagger(r, dryRun, branch, tag).run();
+      var states = RepoStates.loadOrNone(GitHubProvider.graphQl(), repos, List.of("heads/" + branch, "tags/" + tag));
+      var results = new ReleaseEngine(github, ReleaseJournal.load(), states).run(repos, new ReleaseEngine.Release() {
+
+        @Override
+        public Set<String> steps() {
+          return Set.of(Tagger.tagStep(tag));
+        }
+
+        @Override
+        public ReleaseResult run(GHRepository repo, ReleaseJournal journal) throws IOException {
+          return new Tagger(repo, dryRun, branch, tag).run(journal);
+        }
+      });
+      if (ReleaseEngine.hasFailures(results)) {
+        throw new IllegalStateException("Tagging failed for some repositories, run again to continue");
       }
     } catch (Exception ex) {
       throw new RuntimeException(ex);
@@ -55,37 +75,50 @@ public class GitHubRepoTagger {
       this.message = tag;
     }
 
-    public void run() {
+    static String tagStep(String tag) {
+      return "tag " + tag;
+    }
+
+    public ReleaseResult run() {
       try {
-        if (repo.isArchived()) {
-          System.out.println("Skipping archived repo " + repo.getFullName());
-          return;
-        }
-        if (!repo.getBranches().containsKey(branch)) {
-          var defaultBranch = repo.getDefaultBranch();
-          System.out.println("Repo " + repo.getFullName() + " has no " + branch + " branch, taking " + defaultBranch);
-          return;
-        }
+        var result = run(ReleaseJournal.none());
+        result.messages().forEach(System.out::println);
+        return result;
+      } catch (IOException ex) {
+        throw new RuntimeException(ex);
+      }
+    }
 
-        var ghBranch = repo.getBranch(branch);
-        var sha1 = ghBranch.getSHA1();
-        if (dryRun) {
-          System.out.print("DRYRUN: ");
-        }
-        System.out.println("Create tag " + tag + " on " + repo.getFullName() + " ~ " + branch + " ~ " + sha1);
+    public ReleaseResult run(ReleaseJournal journal) throws IOException {
+      var name = repo.getFullName();
+      var messages = new ArrayList<String>();
+      if (repo.isArchived()) {
+        messages.add("Skipping archived repo " + name);
+        return new ReleaseResult(name, Status.SKIPPED, "", messages);
+      }
+      var branchSha = RefResolver.get().branch(repo, branch);
+      if (branchSha.isEmpty()) {
+        var defaultBranch = repo.getDefaultBranch();
+        messages.add("Repo " + name + " has no " + branch + " branch, taking " + defaultBranch);
+        return new ReleaseResult(name, Status.SKIPPED, "", messages);
+      }
+
+      var sha1 = branchSha.get();
+      var existing = RefResolver.get().tag(repo, tag);
+      if (existing.isPresent()) {
+        messages.add("Repo " + name + " has already a tag " + tag + " ~ " + existing.get());
         if (!dryRun) {
-          // we create a release and delete it again
-          // but the annoated tag still exists
-          // I don't know how I could create a annotated tag elseway
-          repo.createRelease(tag)
-            .name(message)
-            .commitish(sha1)
-            .create()
-            .delete();
+          journal.done(name, tagStep(tag), existing.get());
         }
-      } catch (IOException ex) {
-        throw new RuntimeException(ex);
+        return new ReleaseResult(name, Status.UP_TO_DATE, existing.get(), messages);
+      }
+      messages.add((dryRun ? "DRYRUN: " : "") + "Create tag " + tag + " on " + name + " ~ " + branch + " ~ " + sha1);
+      if (dryRun) {
+        return new ReleaseResult(name, Status.DRYRUN, sha1, messages);
       }
+      RefResolver.get().createTag(repo, tag, message, sha1);
+      journal.done(name, tagStep(tag), sha1);
+      return new ReleaseResult(name, Status.CREATED, sha1, messages);
     }
   }
 }
@@ -0,0 +1,225 @@
+package com.axonivy.github;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.commons.lang3.StringUtils;
+
+import com.axonivy.github.file.GitHubMissingFiles;
+
+/**
+ * Runs several tools in one JVM, so they share the GitHub client, its HTTP/2 connections and the caches
+ * instead of paying JVM startup and connection setup per tool. Reads one command per line:
+ *
+ * <pre>
+ * -DDRY_RUN=false branch 12.0
+ * tag release/12.0 v12.0.1
+ * scan-issues 12.0.1 release/12.0 release-notes.txt report.html,report.json
+ * -DGITHUB.WORKING.ORGANIZATIONS=axonivy,axonivy-market require-files ivy-team
+ * </pre>
+ *
+ * The <code>-D</code> properties of a command only apply to it, <code>-</code> stands for an empty argument.
+ * Only the {@link #COMMAND_PROPERTIES} that tools read on every run can be set per command. The connector, cache,
+ * token, metrics and metadata settings are read once per JVM and have to be passed to the runner itself.
+ * Called with a batch file (or <code>-</code> for stdin) the commands run in order and the runner fails if one of
+ * them failed. With <code>GITHUB.RUNNER.SOCKET</code> it stays resident on a Unix domain socket only its owner can
+ * connect to, answering each command with <code>OK</code> or <code>FAILED</code> until a client sends
+ * <code>shutdown</code>.
+ */
+public class GitHubRunner {
+
+  private static final String SHUTDOWN = "shutdown";
+
+  /**
+   * The properties a command may set, all of them are read again by every run of a tool.
+   */
+  static final Set<String> COMMAND_PROPERTIES = Set.of(
+      "DRY_RUN",
+      "GITHUB.TOOL",
+      "GITHUB.WORKING.ORGANIZATIONS",
+      "GITHUB.GRAPHQL.CHUNK",
+      "GITHUB.RELEASE.THREADS",
+      "GITHUB.RELEASE.JOURNAL",
+      "GITHUB.SCAN.THREADS",
+      "GITHUB.SCAN.STATE.FILE",
+      "GITHUB.FILES.THREADS",
+      "GITHUB.FILES.BATCH",
+      "GITHUB.FILES.TREE",
+      "GITHUB.FILES.PLAN",
+      "GITHUB.FILES.APPLY");
+
+  public static void main(String[] args) throws IOException {
+    var socket = System.getProperty("GITHUB.RUNNER.SOCKET");
+    if (StringUtils.isNotBlank(socket)) {
+      serve(Path.of(socket).toAbsolutePath());
+      return;
+    }
+    if (args.length != 1) {
+      throw new IllegalArgumentException("Expected a batch file with one command per line or -DGITHUB.RUNNER.SOCKET");
+    }
+    var lines = "-".equals(args[0])
+        ? new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8)).lines().toList()
+        : Files.readAllLines(Path.of(args[0]));
+    var failed = false;
+    for (var line : lines) {
+      if (isCommand(line)) {
+        var result = execute(line);
+        System.out.println(result);
+        failed |= result.startsWith("FAILED");
+      }
+    }
+    System.exit(failed ? 1 : 0);
+  }
+
+  private static void serve(Path socket) throws IOException {
+    try (var server = bind(socket)) {
+      System.out.println("GitHub runner listening on " + socket);
+      while (true) {
+        try (var client = server.accept();
+            var in = new BufferedReader(Channels.newReader(client, StandardCharsets.UTF_8));
+            var out = new PrintWriter(Channels.newWriter(client, StandardCharsets.UTF_8), true)) {
+          String line;
+          while ((line = in.readLine()) != null) {
+            if (SHUTDOWN.equals(line.trim())) {
+              out.println("OK " + SHUTDOWN);
+              return;
+            }
+            if (isCommand(line)) {
+              out.println(execute(line));
+            }
+          }
+        } catch (IOException ex) {
+          System.out.println("Lost runner client: " + ex.getMessage());
+        }
+      }
+    } finally {
+      Files.deleteIfExists(socket);
+    }
+  }
+
+  /**
+   * Binds the socket in a directory only the owner can enter and moves it in place once it is owner-only too,
+   * so no other user can connect in between.
+   */
+  private static ServerSocketChannel bind(Path socket) throws IOException {
+    Files.deleteIfExists(socket);
+    var privateDir = Files.createTempDirectory(socket.getParent(), ".github-runner",
+        PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rwx------")));
+    var bound = privateDir.resolve("runner.sock");
+    var server = ServerSocketChannel.open(StandardProtocolFamily.UNIX);
+    try {
+      server.bind(UnixDomainSocketAddress.of(bound));
+      Files.setPosixFilePermissions(bound, PosixFilePermissions.fromString("rw-------"));
+      Files.move(bound, socket, StandardCopyOption.ATOMIC_MOVE);
+      return server;
+    } catch (IOException ex) {
+      server.close();
+      throw ex;
+    } finally {
+      Files.deleteIfExists(bound);
+      Files.delete(privateDir);
+    }
+  }
+
+  private static boolean isCommand(String line) {
+    return StringUtils.isNotBlank(line) && !line.trim().startsWith("#");
+  }
+
+  /**
+   * Runs one command with its properties, refs resolved by earlier commands are not trusted anymore.
+   * @return <code>OK</code> or <code>FAILED</code> followed by the command
+   */
+  static String execute(String line) {
+    var previous = new LinkedHashMap<String, String>();
+    try {
+      var command = Command.parse(line);
+      command.properties().forEach((key, value) -> previous.put(key, System.setProperty(key, value)));
+      RefResolver.get().clear();
+      run(command);
+      return "OK " + line.trim();
+    } catch (Exception ex) {
+      System.err.println("GitHub runner command '" + line.trim() + "' failed: " + ex);
+      return "FAILED " + line.trim() + ": " + ex.getMessage();
+    } finally {
+      previous.forEach((key, value) -> {
+        if (value == null) {
+          System.clearProperty(key);
+        } else {
+          System.setProperty(key, value);
+        }
+      });
+      RepoMetadata.get().save();
+    }
+  }
+
+  private static void run(Command command) throws IOException {
+    var args = command.args();
+    switch (command.name()) {
+      case "branch":
+        GitHubBrancher.run(command.arg(0));
+        break;
+      case "tag":
+        GitHubRepoTagger.run(command.arg(0), command.arg(1));
+        break;
+      case "scan-issues":
+        GitHubIssueScanner.main(args.toArray(String[]::new));
+        break;
+      case "require-files":
+        var status = GitHubMissingFiles.run(args.isEmpty() ? "" : command.arg(0));
+        if (status != 0) {
+          throw new IllegalStateException("repositories are not in sync, status " + status);
+        }
+        break;
+      default:
+        throw new IllegalArgumentException("Unknown command " + command.name() + ", expected branch, tag, scan-issues or require-files");
+    }
+  }
+
+  record Command(Map<String, String> properties, String name, List<String> args) {
+
+    static Command parse(String line) {
+      var tokens = Arrays.asList(StringUtils.split(line.trim()));
+      var properties = new LinkedHashMap<String, String>();
+      var i = 0;
+      while (i < tokens.size() && tokens.get(i).startsWith("-D")) {
+        var property = tokens.get(i).substring(2);
+        var key = StringUtils.substringBefore(property, "=");
+        if (!COMMAND_PROPERTIES.contains(key)) {
+          throw new IllegalArgumentException("Property " + key + " cannot be set per command, pass it to the runner JVM");
+        }
+        properties.put(key, StringUtils.substringAfter(property, "="));
+        i++;
+      }
+      if (i == tokens.size()) {
+        throw new IllegalArgumentException("No command in line: " + line);
+      }
+      var args = tokens.subList(i + 1, tokens.size()).stream()
+          .map(arg -> "-".equals(arg) ? "" : arg)
+          .toList();
+      return new Command(properties, tokens.get(i), args);
+    }
+
+    String arg(int index) {
+      if (index >= args.size()) {
+        throw new IllegalArgumentException("Command " + name + " misses argument " + (index + 1));
+      }
+      return args.get(index);
+    }
+  }
+}
@@ -0,0 +1,135 @@
+package com.axonivy.github;
+
+import java.io.IOException;
+import java.util.Date;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.kohsuke.github.GHFileNotFoundException;
+import org.kohsuke.github.GHRepository;
+
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+
+/**
+ * Resolves single tags and branches to the sha of the commit they point to.
+ * Results are kept for the whole run, so repeated lookups of the same ref are free.
+ */
+public class RefResolver {
+
+  private static final String TAGS = "tags/";
+  private static final String HEADS = "heads/";
+  private static final RefResolver RESOLVER = new RefResolver();
+
+  private final Map<String, Optional<String>> refs = new ConcurrentHashMap<>();
+  private final Map<String, Date> commitDates = new ConcurrentHashMap<>();
+
+  public static RefResolver get() {
+    return RESOLVER;
+  }
+
+  public Optional<String> tag(GHRepository repo, String tagName) throws IOException {
+    return resolve(repo, TAGS + tagName);
+  }
+
+  public Optional<String> branch(GHRepository repo, String branchName) throws IOException {
+    return resolve(repo, HEADS + branchName);
+  }
+
+  public Date commitDate(GHRepository repo, String sha) throws IOException {
+    var key = key(repo, sha);
+    var date = commitDates.get(key);
+    if (date == null) {
+      date = repo.getCommit(sha).getCommitDate();
+      commitDates.put(key, date);
+    }
+    return date;
+  }
+
+  /**
+   * Creates an annotated tag through the git data API: a tag object and a ref pointing to it.
+   * Unlike a release this does not notify the watchers of the repository.
+   */
+  public void createTag(GHRepository repo, String tagName, String message, String sha) throws IOException {
+    var tag = repo.createTag(tagName, message, sha, "commit");
+    repo.createRef("refs/" + TAGS + tagName, tag.getSha());
+    tagCreated(repo, tagName, sha);
+  }
+
+  /**
+   * Takes the default branches and requested refs of a snapshot, so resolving them needs no further request.
+   * A requested ref that does not exist in a repository is remembered as missing.
+   */
+  public void preload(RepoStates states) {
+    for (var state : states.all()) {
+      if (state.defaultBranch() != null && state.defaultBranchSha() != null) {
+        refs.put(state.repo() + ":" + HEADS + state.defaultBranch(), Optional.of(state.defaultBranchSha()));
+      }
+      for (var ref : states.refs()) {
+        refs.put(state.repo() + ":" + ref, state.ref(ref));
+      }
+    }
+  }
+
+  public void branchCreated(GHRepository repo, String branchName, String sha) {
+    refs.put(key(repo, HEADS + branchName), Optional.of(sha));
+  }
+
+  public void tagCreated(GHRepository repo, String tagName, String sha) {
+    refs.put(key(repo, TAGS + tagName), Optional.of(sha));
+  }
+
+  /**
+   * Forgets all resolved refs, e.g. before the next job of a long running {@link GitHubRunner}.
+   */
+  public void clear() {
+    refs.clear();
+    commitDates.clear();
+  }
+
+  private Optional<String> resolve(GHRepository repo, String ref) throws IOException {
+    var key = key(repo, ref);
+    var sha = refs.get(key);
+    if (sha == null) {
+      sha = lookup(repo, ref);
+      refs.put(key, sha);
+    }
+    return sha;
+  }
+
+  private static Optional<String> lookup(GHRepository repo, String ref) throws IOException {
+    try {
+      var ghRef = repo.getRef(ref);
+      if (!ghRef.getRef().equals("refs/" + ref)) {
+        return Optional.empty();
+      }
+      var object = ghRef.getObject();
+      if ("tag".equals(object.getType())) {
+        // annotated tag: peel it to the tagged commit
+        return Optional.of(repo.getTagObject(object.getSha()).getObject().getSha());
+      }
+      return Optional.of(object.getSha());
+    } catch (GHFileNotFoundException ex) {
+      return Optional.empty();
+    } catch (IOException ex) {
+      // without an exact match GitHub answers with the list of all refs starting with the name
+      if (isRefList(ex)) {
+        return Optional.empty();
+      }
+      throw ex;
+    }
+  }
+
+  private static boolean isRefList(Throwable ex) {
+    for (var cause = ex; cause != null; cause = cause.getCause()) {
+      if (cause instanceof MismatchedInputException) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static String key(GHRepository repo, String name) {
+    return repo.getFullName() + ":" + name;
+  }
+}
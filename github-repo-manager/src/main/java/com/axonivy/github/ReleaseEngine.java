@@ -0,0 +1,131 @@
+package com.axonivy.github;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.kohsuke.github.GHRepository;
+import org.kohsuke.github.GitHub;
+
+import com.axonivy.github.ReleaseResult.Status;
+
+/**
+ * Runs a release tool over many repositories on a pool of <code>GITHUB.RELEASE.THREADS</code> workers (default 1).
+ * Repositories whose steps are all in the {@link ReleaseJournal} are not even fetched, a failing repository
+ * does not stop the others. With a {@link RepoStates} snapshot the refs of all repositories are known up front,
+ * repositories the snapshot knows as archived are skipped without fetching them. Without a snapshot the archived
+ * flag is taken from the fetched repository, never from the {@link RepoMetadata} of a previous run.
+ * The logs are printed per repository in the given order, followed by a summary table.
+ */
+public class ReleaseEngine {
+
+  private final GitHub github;
+  private final ReleaseJournal journal;
+  private final RepoStates states;
+
+  public ReleaseEngine(GitHub github, ReleaseJournal journal) {
+    this(github, journal, RepoStates.none());
+  }
+
+  /**
+   * @param states the snapshot of the repositories, archived ones are skipped without fetching them
+   */
+  public ReleaseEngine(GitHub github, ReleaseJournal journal, RepoStates states) {
+    this.github = github;
+    this.journal = journal;
+    this.states = states;
+    RefResolver.get().preload(states);
+  }
+
+  /**
+   * @return the results in the order of the repositories
+   */
+  public List<ReleaseResult> run(List<String> repoNames, Release release) throws IOException {
+    var executor = Executors.newFixedThreadPool(Math.max(1, Math.min(threads(), repoNames.size())));
+    try {
+      var runs = new ArrayList<Future<ReleaseResult>>();
+      for (var repoName : repoNames) {
+        runs.add(executor.submit(() -> run("axonivy/" + repoName, release)));
+      }
+      var results = new ArrayList<ReleaseResult>();
+      for (var run : runs) {
+        var result = await(run);
+        result.messages().forEach(System.out::println);
+        results.add(result);
+      }
+      System.out.println(table(results));
+      return results;
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private ReleaseResult run(String repoName, Release release) {
+    if (journal.isDone(repoName, release.steps())) {
+      return new ReleaseResult(repoName, Status.UP_TO_DATE, "", List.of("Skipping repo " + repoName + " because a previous run finished it"));
+    }
+    if (states.state(repoName).map(RepoStates.RepoState::archived).orElse(false)) {
+      return skipArchived(repoName);
+    }
+    try {
+      var repo = github.getRepository(repoName);
+      RepoMetadata.get().record(repo);
+      if (repo.isArchived()) {
+        return skipArchived(repoName);
+      }
+      return release.run(repo, journal);
+    } catch (Exception ex) {
+      return new ReleaseResult(repoName, Status.FAILED, "", List.of("Failed on repo " + repoName + ": " + ex.getMessage()));
+    }
+  }
+
+  private static ReleaseResult skipArchived(String repoName) {
+    return new ReleaseResult(repoName, Status.SKIPPED, "", List.of("Skipping archived repo " + repoName));
+  }
+
+  static String table(List<ReleaseResult> results) {
+    var repoWidth = results.stream().mapToInt(result -> result.repo().length()).max().orElse(4);
+    var format = "%-" + Math.max(4, repoWidth) + "s  %-10s  %-40s  %s%n";
+    var table = new StringBuilder(String.format(format, "Repo", "Status", "Sha", "Message"));
+    for (var result : results) {
+      table.append(String.format(format, result.repo(), result.status(), result.sha(), result.message()));
+    }
+    return table.toString();
+  }
+
+  public static boolean hasFailures(List<ReleaseResult> results) {
+    return results.stream().anyMatch(result -> result.status() == Status.FAILED);
+  }
+
+  private static ReleaseResult await(Future<ReleaseResult> run) throws IOException {
+    try {
+      return run.get();
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Release interrupted", ex);
+    } catch (ExecutionException ex) {
+      throw new RuntimeException(ex.getCause());
+    }
+  }
+
+  private static int threads() {
+    return Integer.getInteger("GITHUB.RELEASE.THREADS", 1);
+  }
+
+  /**
+   * The work of a release tool in one repository.
+   */
+  public interface Release {
+
+    /**
+     * @return the names of all steps, as recorded in the journal once done
+     */
+    Set<String> steps();
+
+    ReleaseResult run(GHRepository repo, ReleaseJournal journal) throws IOException;
+  }
+}
@@ -0,0 +1,81 @@
+package com.axonivy.github;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+
+import org.apache.commons.lang3.StringUtils;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Remembers per repository which release steps (e.g. <code>branch release/12.0</code>, <code>tag v12.0.1</code>)
+ * are done and on which commit, so a rerun after a failure continues with the unfinished repositories only.
+ * The journal is written after every step, a run without <code>GITHUB.RELEASE.JOURNAL</code> keeps it in memory.
+ */
+public class ReleaseJournal {
+
+  private static final TypeReference<TreeMap<String, TreeMap<String, String>>> STEPS_TYPE_REFERENCE = new TypeReference<>() {
+  };
+  private static final ObjectMapper objectMapper = new ObjectMapper();
+
+  private final Optional<Path> file;
+  private final Map<String, TreeMap<String, String>> steps;
+
+  private ReleaseJournal(Optional<Path> file, Map<String, TreeMap<String, String>> steps) {
+    this.file = file;
+    this.steps = steps;
+  }
+
+  public static ReleaseJournal none() {
+    return new ReleaseJournal(Optional.empty(), new TreeMap<>());
+  }
+
+  public static ReleaseJournal load() throws IOException {
+    var file = System.getProperty("GITHUB.RELEASE.JOURNAL");
+    if (StringUtils.isBlank(file)) {
+      return none();
+    }
+    return load(Path.of(file));
+  }
+
+  public static ReleaseJournal load(Path file) throws IOException {
+    if (!Files.exists(file)) {
+      return new ReleaseJournal(Optional.of(file), new TreeMap<>());
+    }
+    return new ReleaseJournal(Optional.of(file), objectMapper.readValue(file.toFile(), STEPS_TYPE_REFERENCE));
+  }
+
+  /**
+   * @return the commit the step has been done on, empty if the step is not done yet
+   */
+  public synchronized Optional<String> sha(String repo, String step) {
+    return Optional.ofNullable(steps.getOrDefault(repo, new TreeMap<>()).get(step));
+  }
+
+  public synchronized boolean isDone(String repo, Set<String> repoSteps) {
+    return steps.getOrDefault(repo, new TreeMap<>()).keySet().containsAll(repoSteps);
+  }
+
+  public synchronized void done(String repo, String step, String sha) {
+    steps.computeIfAbsent(repo, r -> new TreeMap<>()).put(step, sha);
+    file.ifPresent(this::save);
+  }
+
+  private void save(Path journal) {
+    try {
+      var tmp = journal.resolveSibling(journal.getFileName() + ".tmp");
+      objectMapper.writeValue(tmp.toFile(), steps);
+      Files.move(tmp, journal, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    } catch (IOException ex) {
+      throw new UncheckedIOException(ex);
+    }
+  }
+}
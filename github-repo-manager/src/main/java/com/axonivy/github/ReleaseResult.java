@@ -0,0 +1,27 @@
+package com.axonivy.github;
+
+import java.util.List;
+
+/**
+ * What a release tool did in one repository.
+ * @param sha the commit the created refs point to, empty if none
+ * @param messages the log of the repository, printed together once the repository is done
+ */
+public record ReleaseResult(String repo, Status status, String sha, List<String> messages) {
+
+  public enum Status {
+    /** at least one ref has been created */
+    CREATED,
+    /** all refs existed already or have been created by a previous run */
+    UP_TO_DATE,
+    /** nothing to do for this repository, e.g. it is archived */
+    SKIPPED,
+    /** refs would have been created */
+    DRYRUN,
+    FAILED
+  }
+
+  public String message() {
+    return messages.isEmpty() ? "" : messages.get(messages.size() - 1);
+  }
+}
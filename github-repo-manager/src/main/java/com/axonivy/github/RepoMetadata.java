@@ -0,0 +1,206 @@
+package com.axonivy.github;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.commons.lang3.StringUtils;
+import org.kohsuke.github.GHRepository;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Remembers the slowly changing facts of repositories between runs: archived flag, default branch and the blob shas
+ * of the files the file rules look at. Every repository a tool loads anyway is recorded, so consecutive jobs on
+ * the same agent start warm. Facts about a repository expire after <code>GITHUB.METADATA.TTL.HOURS</code>
+ * (default 24), the recorded files as soon as the <code>pushed_at</code> or <code>updated_at</code> of the
+ * repository moves. Stored in <code>GITHUB.METADATA.FILE</code> at the end of the run, kept in memory without it.
+ */
+public class RepoMetadata {
+
+  private static final TypeReference<TreeMap<String, Entry>> ENTRIES_TYPE_REFERENCE = new TypeReference<>() {
+  };
+  private static final ObjectMapper objectMapper = new ObjectMapper();
+
+  private final Optional<Path> file;
+  private final Duration ttl;
+  private final Map<String, Entry> entries;
+
+  private RepoMetadata(Optional<Path> file, Duration ttl, Map<String, Entry> entries) {
+    this.file = file;
+    this.ttl = ttl;
+    this.entries = new ConcurrentHashMap<>(entries);
+  }
+
+  public static RepoMetadata get() {
+    return Holder.METADATA;
+  }
+
+  static RepoMetadata none() {
+    return new RepoMetadata(Optional.empty(), ttl(), Map.of());
+  }
+
+  static RepoMetadata load(Path file) throws IOException {
+    if (!Files.exists(file)) {
+      return new RepoMetadata(Optional.of(file), ttl(), Map.of());
+    }
+    return new RepoMetadata(Optional.of(file), ttl(), objectMapper.readValue(file.toFile(), ENTRIES_TYPE_REFERENCE));
+  }
+
+  /**
+   * @param repo the full name, e.g. <code>axonivy/core</code>
+   * @return the facts about the repository if they have been recorded within the TTL
+   */
+  public Optional<Entry> fresh(String repo) {
+    return fresh(repo, Instant.now());
+  }
+
+  Optional<Entry> fresh(String repo, Instant now) {
+    return Optional.ofNullable(entries.get(repo))
+        .filter(entry -> Instant.ofEpochMilli(entry.fetchedAt()).plus(ttl).isAfter(now));
+  }
+
+  /**
+   * Records a repository that has been loaded from GitHub. Its recorded files survive if it has not been pushed or
+   * updated since.
+   */
+  public Entry record(GHRepository repo) {
+    try {
+      var pushedAt = millis(repo.getPushedAt());
+      var updatedAt = millis(repo.getUpdatedAt());
+      return entries.compute(repo.getFullName(), (name, known) -> {
+        var current = known != null && known.isCurrent(pushedAt, updatedAt);
+        return new Entry(name, repo.isArchived(), repo.getDefaultBranch(), pushedAt, updatedAt,
+            Instant.now().toEpochMilli(), current ? known.filesAt() : "", current ? known.files() : Map.of());
+      });
+    } catch (IOException ex) {
+      throw new UncheckedIOException(ex);
+    }
+  }
+
+  /**
+   * @param commit the commit the files are read at, <code>null</code> for the default branch as it was recorded
+   * @param paths the files to look up
+   * @return the blob sha of each file on the default branch, an empty string for a missing file;
+   *         empty if not all paths are recorded, they have been recorded at another commit or the repository has
+   *         been pushed or updated since
+   */
+  public Optional<Map<String, String>> files(GHRepository repo, String commit, Set<String> paths) {
+    var entry = entries.get(repo.getFullName());
+    if (entry == null || !entry.isCurrent(millis(repo.getPushedAt()), updatedAt(repo))
+        || commit != null && !commit.equals(entry.filesAt())
+        || !entry.files().keySet().containsAll(paths)) {
+      return Optional.empty();
+    }
+    var files = new HashMap<String, String>();
+    paths.forEach(path -> files.put(path, entry.files().get(path)));
+    return Optional.of(files);
+  }
+
+  /**
+   * @param commit the commit the files have been read at, <code>null</code> if they have been read from the default
+   *        branch without pinning its head
+   * @param files the blob sha of each file on the default branch, an empty string for a missing file
+   */
+  public void files(GHRepository repo, String commit, Map<String, String> files) {
+    record(repo);
+    var filesAt = Objects.toString(commit, "");
+    entries.computeIfPresent(repo.getFullName(), (name, entry) -> {
+      var merged = new TreeMap<String, String>();
+      if (filesAt.equals(entry.filesAt())) {
+        merged.putAll(entry.files());
+      }
+      merged.putAll(files);
+      return entry.withFiles(filesAt, merged);
+    });
+  }
+
+  public synchronized void save() {
+    file.ifPresent(this::save);
+  }
+
+  private void save(Path metadata) {
+    try {
+      var tmp = metadata.resolveSibling(metadata.getFileName() + ".tmp");
+      objectMapper.writeValue(tmp.toFile(), new TreeMap<>(entries));
+      Files.move(tmp, metadata, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    } catch (IOException ex) {
+      throw new UncheckedIOException(ex);
+    }
+  }
+
+  private static long updatedAt(GHRepository repo) {
+    try {
+      return millis(repo.getUpdatedAt());
+    } catch (IOException ex) {
+      throw new UncheckedIOException(ex);
+    }
+  }
+
+  private static long millis(Date date) {
+    return date == null ? 0 : date.getTime();
+  }
+
+  private static Duration ttl() {
+    return Duration.ofHours(Long.getLong("GITHUB.METADATA.TTL.HOURS", 24));
+  }
+
+  private static RepoMetadata load() {
+    var file = System.getProperty("GITHUB.METADATA.FILE");
+    if (StringUtils.isBlank(file)) {
+      return none();
+    }
+    try {
+      var metadata = load(Path.of(file));
+      Runtime.getRuntime().addShutdownHook(new Thread(metadata::save));
+      return metadata;
+    } catch (IOException ex) {
+      System.out.println("Cannot read repository metadata " + file + ", starting cold: " + ex.getMessage());
+      return new RepoMetadata(Optional.of(Path.of(file)), ttl(), Map.of());
+    }
+  }
+
+  private static class Holder {
+    private static final RepoMetadata METADATA = load();
+  }
+
+  /**
+   * @param fetchedAt when the facts have been read from GitHub, in epoch millis
+   * @param filesAt the commit the files have been read at, empty if they have been read from the default branch
+   * @param files the blob sha of files on the default branch, an empty string for a missing file
+   */
+  @JsonIgnoreProperties(ignoreUnknown = true)
+  public record Entry(String repo, boolean archived, String defaultBranch, long pushedAt, long updatedAt,
+          long fetchedAt, String filesAt, Map<String, String> files) {
+
+    public Entry {
+      filesAt = filesAt == null ? "" : filesAt;
+      files = files == null ? Map.of() : Map.copyOf(files);
+    }
+
+    /**
+     * @return if the recorded files still describe a repository with these timestamps
+     */
+    boolean isCurrent(long newPushedAt, long newUpdatedAt) {
+      return pushedAt == newPushedAt && updatedAt == newUpdatedAt;
+    }
+
+    Entry withFiles(String newFilesAt, Map<String, String> newFiles) {
+      return new Entry(repo, archived, defaultBranch, pushedAt, updatedAt, fetchedAt, newFilesAt, newFiles);
+    }
+  }
+}
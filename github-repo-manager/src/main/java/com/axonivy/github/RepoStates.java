@@ -0,0 +1,134 @@
+package com.axonivy.github;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import com.axonivy.github.connector.GraphQlClient;
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Immutable snapshot of the repositories a release tool works on: archived flag, default branch with its head
+ * and the refs the tool asks for. Loaded with a few aliased GraphQL queries of <code>GITHUB.GRAPHQL.CHUNK</code>
+ * repositories each (default 50) instead of several REST calls per repository.
+ */
+public class RepoStates {
+
+  private static final String OWNER = "axonivy";
+  private static final RepoStates NONE = new RepoStates(List.of(), Map.of());
+
+  private final List<String> refs;
+  private final Map<String, RepoState> states;
+
+  private RepoStates(List<String> refs, Map<String, RepoState> states) {
+    this.refs = List.copyOf(refs);
+    this.states = Map.copyOf(states);
+  }
+
+  public static RepoStates none() {
+    return NONE;
+  }
+
+  /**
+   * @param refs the refs to resolve in every repository, e.g. <code>heads/release/12.0</code> or <code>tags/v12.0.1</code>
+   */
+  public static RepoStates load(GraphQlClient graphQl, List<String> repoNames, List<String> refs) throws IOException {
+    var states = new HashMap<String, RepoState>();
+    var chunk = Math.max(1, Integer.getInteger("GITHUB.GRAPHQL.CHUNK", 50));
+    for (int start = 0; start < repoNames.size(); start += chunk) {
+      var names = repoNames.subList(start, Math.min(start + chunk, repoNames.size()));
+      var data = graphQl.query(query(names, refs));
+      for (int i = 0; i < names.size(); i++) {
+        var repo = data.get("r" + i);
+        if (repo != null && !repo.isNull()) {
+          var state = toState(OWNER + "/" + names.get(i), repo, refs);
+          states.put(state.repo(), state);
+        }
+      }
+    }
+    return new RepoStates(refs, states);
+  }
+
+  /**
+   * Loads the snapshot or falls back to {@link #none()}, so the tools resolve everything through REST.
+   */
+  public static RepoStates loadOrNone(GraphQlClient graphQl, List<String> repoNames, List<String> refs) {
+    try {
+      var states = load(graphQl, repoNames, refs);
+      System.out.println("Loaded the state of " + states.states.size() + " repositories");
+      return states;
+    } catch (IOException ex) {
+      System.out.println("Cannot load the state of the repositories, asking each repository: " + ex.getMessage());
+      return none();
+    }
+  }
+
+  /**
+   * @param repo the full name, e.g. <code>axonivy/core</code>
+   */
+  public Optional<RepoState> state(String repo) {
+    return Optional.ofNullable(states.get(repo));
+  }
+
+  /**
+   * @return the refs that have been resolved in every repository of the snapshot
+   */
+  public List<String> refs() {
+    return refs;
+  }
+
+  public List<RepoState> all() {
+    return List.copyOf(states.values());
+  }
+
+  static String query(List<String> names, List<String> refs) {
+    var query = new StringBuilder("query {\n");
+    for (int i = 0; i < names.size(); i++) {
+      query.append("  r").append(i).append(": repository(owner: ").append(quote(OWNER))
+          .append(", name: ").append(quote(names.get(i))).append(") {\n")
+          .append("    isArchived\n")
+          .append("    defaultBranchRef { name target { oid } }\n");
+      for (int r = 0; r < refs.size(); r++) {
+        query.append("    ref").append(r).append(": ref(qualifiedName: ").append(quote("refs/" + refs.get(r)))
+            .append(") { target { oid ... on Tag { target { oid } } } }\n");
+      }
+      query.append("  }\n");
+    }
+    return query.append("}").toString();
+  }
+
+  private static RepoState toState(String name, JsonNode repo, List<String> refs) {
+    var defaultBranch = repo.path("defaultBranchRef");
+    var resolved = new HashMap<String, String>();
+    for (int r = 0; r < refs.size(); r++) {
+      var target = repo.path("ref" + r).path("target");
+      if (!target.isMissingNode() && !target.isNull()) {
+        // annotated tags are peeled to the tagged commit
+        var peeled = target.path("target").path("oid");
+        resolved.put(refs.get(r), peeled.isMissingNode() ? target.path("oid").asText() : peeled.asText());
+      }
+    }
+    return new RepoState(name, repo.path("isArchived").asBoolean(),
+        defaultBranch.path("name").asText(null), defaultBranch.path("target").path("oid").asText(null), resolved);
+  }
+
+  private static String quote(String value) {
+    return "\"" + value.replace("\\", "\\\\").replace("\"", "\\\"") + "\"";
+  }
+
+  /**
+   * @param refs the sha of the commit of each requested ref that exists
+   */
+  public record RepoState(String repo, boolean archived, String defaultBranch, String defaultBranchSha, Map<String, String> refs) {
+
+    public RepoState {
+      refs = Map.copyOf(refs);
+    }
+
+    public Optional<String> ref(String ref) {
+      return Optional.ofNullable(refs.get(ref));
+    }
+  }
+}
@@ -0,0 +1,49 @@
+package com.axonivy.github.connector;
+
+/**
+ * Bounds the number of requests in flight. The bound grows by one after a run of successful requests
+ * and is halved whenever GitHub complains about too many concurrent requests.
+ */
+class AdaptiveLimiter {
+
+  private static final int SUCCESSES_TO_GROW = 20;
+
+  private final int max;
+  private int limit;
+  private int inFlight;
+  private int successes;
+
+  AdaptiveLimiter(int initial, int max) {
+    this.max = max;
+    this.limit = Math.max(1, Math.min(initial, max));
+  }
+
+  synchronized void acquire() throws InterruptedException {
+    while (inFlight >= limit) {
+      wait();
+    }
+    inFlight++;
+  }
+
+  synchronized void release() {
+    inFlight--;
+    notifyAll();
+  }
+
+  synchronized void onSuccess() {
+    if (++successes >= SUCCESSES_TO_GROW && limit < max) {
+      limit++;
+      successes = 0;
+      notifyAll();
+    }
+  }
+
+  synchronized void onThrottled() {
+    limit = Math.max(1, limit / 2);
+    successes = 0;
+  }
+
+  synchronized int limit() {
+    return limit;
+  }
+}
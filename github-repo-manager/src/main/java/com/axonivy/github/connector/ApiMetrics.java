@@ -0,0 +1,254 @@
+package com.axonivy.github.connector;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import org.apache.commons.lang3.StringUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+/**
+ * Counts the GitHub API calls of a run per tool and endpoint: calls, errors, retries, response bytes
+ * and a latency histogram. Also tracks how much of each rate limit resource the run used.
+ * Written as JSON and in the Prometheus text format at the end of the run.
+ */
+public class ApiMetrics {
+
+  private static final ApiMetrics METRICS = new ApiMetrics();
+  private static final long[] BUCKETS_MS = {50, 100, 250, 500, 1_000, 2_500, 5_000, 10_000};
+  private static final ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+  private final Map<String, Series> series = new ConcurrentHashMap<>();
+  private final Map<String, RateWindow> rateLimits = new ConcurrentHashMap<>();
+
+  ApiMetrics() {
+  }
+
+  public static ApiMetrics get() {
+    return METRICS;
+  }
+
+  void record(String tool, String endpoint, int status, long nanos) {
+    var s = series(tool, endpoint);
+    s.calls.increment();
+    if (status >= 400) {
+      s.errors.increment();
+    }
+    var millis = TimeUnit.NANOSECONDS.toMillis(nanos);
+    s.latencyMs.add(millis);
+    s.buckets[bucket(millis)].increment();
+  }
+
+  void bytes(String tool, String endpoint, long bytes) {
+    series(tool, endpoint).bytes.add(bytes);
+  }
+
+  void retry(String tool, String endpoint) {
+    series(tool, endpoint).retries.increment();
+  }
+
+  void rateLimit(String resource, int limit, int remaining, Instant reset) {
+    rateLimits.compute(resource + "@" + reset.getEpochSecond(), (key, window) -> {
+      if (window == null) {
+        return new RateWindow(resource, limit, remaining, remaining);
+      }
+      return new RateWindow(resource, limit, Math.max(window.first(), remaining), Math.min(window.last(), remaining));
+    });
+  }
+
+  /**
+   * Classifies a request by the kind of object it reads or writes.
+   */
+  static String endpoint(String path) {
+    if (path.equals("/graphql")) {
+      return "graphql";
+    }
+    if (path.startsWith("/search/")) {
+      return "search";
+    }
+    if (path.startsWith("/orgs/") || path.startsWith("/users/") || path.equals("/user")) {
+      return path.endsWith("/repos") ? "repos" : "users";
+    }
+    if (!path.startsWith("/repos/")) {
+      return "other";
+    }
+    var parts = StringUtils.split(path, '/');
+    if (parts.length <= 3) {
+      return "repos";
+    }
+    var kind = parts[3];
+    if ("git".equals(kind) && parts.length > 4) {
+      kind = parts[4];
+    }
+    switch (kind) {
+      case "contents":
+      case "blobs":
+      case "trees":
+        return "content";
+      case "refs":
+      case "ref":
+      case "branches":
+        return "refs";
+      case "commits":
+      case "compare":
+        return "commits";
+      case "tags":
+      case "releases":
+        return "tags";
+      case "pulls":
+        return "pulls";
+      default:
+        return "other";
+    }
+  }
+
+  public String statistics() {
+    var calls = series.values().stream().mapToLong(s -> s.calls.sum()).sum();
+    var bytes = series.values().stream().mapToLong(s -> s.bytes.sum()).sum();
+    var retries = series.values().stream().mapToLong(s -> s.retries.sum()).sum();
+    return String.format("GitHub API: %d calls, %d retries, %d KB, rate limit used %s", calls, retries, bytes / 1024, rateLimitUsed());
+  }
+
+  public void writeJson(Path file) throws IOException {
+    var tools = new TreeMap<String, Map<String, Object>>();
+    forEachSeries((tool, endpoint, s) -> {
+      var latency = new LinkedHashMap<String, Object>();
+      latency.put("sum", s.latencyMs.sum());
+      var buckets = new LinkedHashMap<String, Long>();
+      for (int i = 0; i < s.buckets.length; i++) {
+        buckets.put(le(i), s.buckets[i].sum());
+      }
+      latency.put("buckets", buckets);
+      var values = new LinkedHashMap<String, Object>();
+      values.put("calls", s.calls.sum());
+      values.put("errors", s.errors.sum());
+      values.put("retries", s.retries.sum());
+      values.put("bytes", s.bytes.sum());
+      values.put("latencyMs", latency);
+      tools.computeIfAbsent(tool, t -> new TreeMap<>()).put(endpoint, values);
+    });
+    var json = new LinkedHashMap<String, Object>();
+    json.put("tools", tools);
+    json.put("rateLimitUsed", rateLimitUsed());
+    objectMapper.writeValue(file.toFile(), json);
+  }
+
+  public void writePrometheus(Path file) throws IOException {
+    try (var out = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+      counter(out, "github_api_calls_total", "GitHub API calls", s -> s.calls);
+      counter(out, "github_api_errors_total", "GitHub API calls answered with an error status", s -> s.errors);
+      counter(out, "github_api_retries_total", "GitHub API calls repeated after a rate limit", s -> s.retries);
+      counter(out, "github_api_response_bytes_total", "Bytes of GitHub API response bodies", s -> s.bytes);
+      out.write("# HELP github_api_latency_seconds Time until GitHub answered\n");
+      out.write("# TYPE github_api_latency_seconds histogram\n");
+      forEachSeries((tool, endpoint, s) -> {
+        var labels = labels(tool, endpoint);
+        long cumulative = 0;
+        for (int i = 0; i < s.buckets.length; i++) {
+          cumulative += s.buckets[i].sum();
+          var le = i < BUCKETS_MS.length ? String.valueOf(BUCKETS_MS[i] / 1000.0) : "+Inf";
+          out.write("github_api_latency_seconds_bucket{" + labels + ",le=\"" + le + "\"} " + cumulative + "\n");
+        }
+        out.write("github_api_latency_seconds_sum{" + labels + "} " + s.latencyMs.sum() / 1000.0 + "\n");
+        out.write("github_api_latency_seconds_count{" + labels + "} " + s.calls.sum() + "\n");
+      });
+      out.write("# HELP github_rate_limit_used Rate limit consumed during the run\n");
+      out.write("# TYPE github_rate_limit_used gauge\n");
+      for (var entry : rateLimitUsed().entrySet()) {
+        out.write("github_rate_limit_used{resource=\"" + entry.getKey() + "\"} " + entry.getValue() + "\n");
+      }
+    }
+  }
+
+  /**
+   * @return per resource the quota used in all windows the run has seen, including the first call of each window
+   */
+  Map<String, Integer> rateLimitUsed() {
+    var used = new TreeMap<String, Integer>();
+    rateLimits.values().forEach(window -> used.merge(window.resource(), window.first() - window.last() + 1, Integer::sum));
+    return used;
+  }
+
+  long calls(String tool, String endpoint) {
+    return series(tool, endpoint).calls.sum();
+  }
+
+  long bytes(String tool, String endpoint) {
+    return series(tool, endpoint).bytes.sum();
+  }
+
+  long retries(String tool, String endpoint) {
+    return series(tool, endpoint).retries.sum();
+  }
+
+  private void counter(BufferedWriter out, String name, String help, Function<Series, LongAdder> value) throws IOException {
+    out.write("# HELP " + name + " " + help + "\n");
+    out.write("# TYPE " + name + " counter\n");
+    forEachSeries((tool, endpoint, s) -> out.write(name + "{" + labels(tool, endpoint) + "} " + value.apply(s).sum() + "\n"));
+  }
+
+  private void forEachSeries(SeriesConsumer consumer) throws IOException {
+    for (var entry : new TreeMap<>(series).entrySet()) {
+      var key = entry.getKey();
+      consumer.accept(StringUtils.substringBefore(key, " "), StringUtils.substringAfter(key, " "), entry.getValue());
+    }
+  }
+
+  private Series series(String tool, String endpoint) {
+    return series.computeIfAbsent(tool + " " + endpoint, key -> new Series());
+  }
+
+  private static String labels(String tool, String endpoint) {
+    return "tool=\"" + tool + "\",endpoint=\"" + endpoint + "\"";
+  }
+
+  private static int bucket(long millis) {
+    for (int i = 0; i < BUCKETS_MS.length; i++) {
+      if (millis <= BUCKETS_MS[i]) {
+        return i;
+      }
+    }
+    return BUCKETS_MS.length;
+  }
+
+  private static String le(int bucket) {
+    return bucket < BUCKETS_MS.length ? String.valueOf(BUCKETS_MS[bucket]) : "+Inf";
+  }
+
+  private interface SeriesConsumer {
+    void accept(String tool, String endpoint, Series series) throws IOException;
+  }
+
+  private static class Series {
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder retries = new LongAdder();
+    private final LongAdder bytes = new LongAdder();
+    private final LongAdder latencyMs = new LongAdder();
+    private final LongAdder[] buckets = new LongAdder[BUCKETS_MS.length + 1];
+
+    private Series() {
+      for (int i = 0; i < buckets.length; i++) {
+        buckets[i] = new LongAdder();
+      }
+    }
+  }
+
+  /**
+   * @param first the highest remaining quota seen in the window
+   * @param last the lowest remaining quota seen in the window
+   */
+  private record RateWindow(String resource, int limit, int first, int last) {}
+}
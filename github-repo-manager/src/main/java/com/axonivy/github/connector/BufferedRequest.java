@@ -0,0 +1,103 @@
+package com.axonivy.github.connector;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.kohsuke.github.connector.GitHubConnectorRequest;
+
+/**
+ * Request with a body that can be read several times and headers that can be extended.
+ */
+class BufferedRequest implements GitHubConnectorRequest {
+
+  private final String method;
+  private final URL url;
+  private final Map<String, List<String>> headers;
+  private final String contentType;
+  private final byte[] body;
+
+  private BufferedRequest(String method, URL url, Map<String, List<String>> headers, String contentType, byte[] body) {
+    this.method = method;
+    this.url = url;
+    this.headers = headers;
+    this.contentType = contentType;
+    this.body = body;
+  }
+
+  static BufferedRequest of(GitHubConnectorRequest request) throws IOException {
+    if (request instanceof BufferedRequest buffered) {
+      return buffered;
+    }
+    byte[] body = null;
+    if (request.hasBody()) {
+      try (var in = request.body()) {
+        body = in.readAllBytes();
+      }
+    }
+    var headers = new TreeMap<String, List<String>>(String.CASE_INSENSITIVE_ORDER);
+    headers.putAll(request.allHeaders());
+    return new BufferedRequest(request.method(), request.url(), headers, request.contentType(), body);
+  }
+
+  static BufferedRequest post(URL url, String contentType, byte[] body) {
+    var headers = new TreeMap<String, List<String>>(String.CASE_INSENSITIVE_ORDER);
+    headers.put("Content-Type", List.of(contentType));
+    return new BufferedRequest("POST", url, headers, contentType, body);
+  }
+
+  BufferedRequest withHeader(String name, String value) {
+    var newHeaders = new TreeMap<String, List<String>>(String.CASE_INSENSITIVE_ORDER);
+    newHeaders.putAll(headers);
+    newHeaders.put(name, List.of(value));
+    return new BufferedRequest(method, url, newHeaders, contentType, body);
+  }
+
+  byte[] bodyBytes() {
+    return body;
+  }
+
+  @Override
+  public String method() {
+    return method;
+  }
+
+  @Override
+  public Map<String, List<String>> allHeaders() {
+    return headers;
+  }
+
+  @Override
+  public String header(String name) {
+    var values = headers.get(name);
+    if (values == null || values.isEmpty()) {
+      return null;
+    }
+    return String.join(",", new ArrayList<>(values));
+  }
+
+  @Override
+  public String contentType() {
+    return contentType;
+  }
+
+  @Override
+  public InputStream body() {
+    return body == null ? null : new ByteArrayInputStream(body);
+  }
+
+  @Override
+  public URL url() {
+    return url;
+  }
+
+  @Override
+  public boolean hasBody() {
+    return body != null;
+  }
+}
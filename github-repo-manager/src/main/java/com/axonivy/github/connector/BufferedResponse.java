@@ -0,0 +1,66 @@
+package com.axonivy.github.connector;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.kohsuke.github.connector.GitHubConnectorRequest;
+import org.kohsuke.github.connector.GitHubConnectorResponse;
+
+/**
+ * Response whose (already decoded) body is kept in memory.
+ */
+class BufferedResponse extends GitHubConnectorResponse.ByteArrayResponse {
+
+  private final byte[] body;
+
+  BufferedResponse(GitHubConnectorRequest request, int statusCode, Map<String, List<String>> headers, byte[] body) {
+    super(request, statusCode, withoutEncoding(headers));
+    this.body = body;
+  }
+
+  /**
+   * Reads the whole body of the response and closes it. A body that cannot be read is only tolerated for errors,
+   * a truncated success must not be cached or recorded as an empty one.
+   * @param request the request as sent by the GitHub client, it carries the client's state for parsing the response
+   */
+  static BufferedResponse of(GitHubConnectorRequest request, GitHubConnectorResponse response) throws IOException {
+    try (response) {
+      byte[] body;
+      try (var in = response.bodyStream()) {
+        body = in == null ? new byte[0] : in.readAllBytes();
+      } catch (IOException ex) {
+        if (response.statusCode() < HttpURLConnection.HTTP_BAD_REQUEST) {
+          throw ex;
+        }
+        // error responses may have no body at all
+        body = new byte[0];
+      }
+      return new BufferedResponse(request, response.statusCode(), response.allHeaders(), body);
+    }
+  }
+
+  byte[] body() {
+    return body;
+  }
+
+  @Override
+  protected InputStream rawBodyStream() throws IOException {
+    return new ByteArrayInputStream(body);
+  }
+
+  private static Map<String, List<String>> withoutEncoding(Map<String, List<String>> headers) {
+    var copy = new TreeMap<String, List<String>>(String.CASE_INSENSITIVE_ORDER);
+    headers.forEach((name, values) -> {
+      // the status line has a null key
+      if (name != null && !"Content-Encoding".equalsIgnoreCase(name)) {
+        copy.put(name, values);
+      }
+    });
+    return copy;
+  }
+}
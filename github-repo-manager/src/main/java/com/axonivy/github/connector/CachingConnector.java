@@ -0,0 +1,127 @@
+package com.axonivy.github.connector;
+
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.kohsuke.github.connector.GitHubConnector;
+import org.kohsuke.github.connector.GitHubConnectorRequest;
+import org.kohsuke.github.connector.GitHubConnectorResponse;
+
+import com.axonivy.github.connector.FixtureArchive.Exchange;
+
+/**
+ * Revalidates cached GET responses with <code>If-None-Match</code> and <code>If-Modified-Since</code>.
+ * GitHub does not count <code>304 Not Modified</code> answers against the rate limit,
+ * the cached body is served instead.
+ */
+public class CachingConnector implements GitHubConnector {
+
+  private final GitHubConnector delegate;
+  private final HttpCache cache;
+  private final AtomicLong hits = new AtomicLong();
+  private final AtomicLong misses = new AtomicLong();
+
+  public CachingConnector(GitHubConnector delegate, Path dir, long maxBytes) throws IOException {
+    this.delegate = delegate;
+    this.cache = new HttpCache(dir, maxBytes);
+  }
+
+  @Override
+  public GitHubConnectorResponse send(GitHubConnectorRequest connectorRequest) throws IOException {
+    if (!"GET".equals(connectorRequest.method()) || connectorRequest.hasBody()) {
+      return delegate.send(connectorRequest);
+    }
+    var request = BufferedRequest.of(connectorRequest);
+    var key = key(request);
+    var cached = cache.get(key);
+    if (cached != null) {
+      request = revalidate(request, cached);
+    }
+    var response = delegate.send(request);
+    if (cached != null && response.statusCode() == HttpURLConnection.HTTP_NOT_MODIFIED) {
+      hits.incrementAndGet();
+      try (response) {
+        return fromCache(connectorRequest, cached, response);
+      }
+    }
+    misses.incrementAndGet();
+    if (response.statusCode() != HttpURLConnection.HTTP_OK || !isCacheable(response)) {
+      return response;
+    }
+    var buffered = BufferedResponse.of(connectorRequest, response);
+    cache.put(key, Exchange.of(request, buffered));
+    return buffered;
+  }
+
+  public String statistics() {
+    return String.format("HTTP cache: %d hits, %d misses, %d entries, %d KB",
+        hits.get(), misses.get(), cache.size(), cache.bytes() / 1024);
+  }
+
+  long hits() {
+    return hits.get();
+  }
+
+  long misses() {
+    return misses.get();
+  }
+
+  private static BufferedRequest revalidate(BufferedRequest request, Exchange cached) {
+    var response = cached.toResponse(request);
+    var etag = response.header("ETag");
+    if (etag != null) {
+      request = request.withHeader("If-None-Match", etag);
+    }
+    var lastModified = response.header("Last-Modified");
+    if (lastModified != null) {
+      request = request.withHeader("If-Modified-Since", lastModified);
+    }
+    return request;
+  }
+
+  private static GitHubConnectorResponse fromCache(GitHubConnectorRequest request, Exchange cached,
+          GitHubConnectorResponse notModified) throws IOException {
+    var stored = cached.toResponse(request);
+    // fresh headers carry the current rate limit
+    var headers = new TreeMap<String, List<String>>(String.CASE_INSENSITIVE_ORDER);
+    headers.putAll(stored.allHeaders());
+    notModified.allHeaders().forEach((name, values) -> {
+      if (name != null) {
+        headers.put(name, values);
+      }
+    });
+    return new CachedResponse(request, headers, stored.body());
+  }
+
+  /**
+   * @return if the response has been revalidated with a <code>304 Not Modified</code> and its body served from the cache
+   */
+  static boolean isFromCache(GitHubConnectorResponse response) {
+    return response instanceof CachedResponse;
+  }
+
+  private static boolean isCacheable(GitHubConnectorResponse response) {
+    return response.header("ETag") != null || response.header("Last-Modified") != null;
+  }
+
+  /**
+   * Responses differ per user and media type, so the token and accept header are part of the key.
+   */
+  private static String key(BufferedRequest request) {
+    var identity = request.url() + "\n" + request.header("Authorization") + "\n" + request.header("Accept");
+    return FixtureArchive.sha256(identity.getBytes(StandardCharsets.UTF_8)) + ".json";
+  }
+
+  private static class CachedResponse extends BufferedResponse {
+
+    CachedResponse(GitHubConnectorRequest request, Map<String, List<String>> headers, byte[] body) {
+      super(request, HttpURLConnection.HTTP_OK, headers, body);
+    }
+  }
+}
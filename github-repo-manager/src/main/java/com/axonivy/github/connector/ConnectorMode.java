@@ -0,0 +1,60 @@
+package com.axonivy.github.connector;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import org.kohsuke.github.connector.GitHubConnector;
+
+/**
+ * How the GitHub client talks to GitHub, chosen by the system property <code>GITHUB.CONNECTOR</code>:
+ * <ul>
+ * <li><code>live</code> (default): directly to GitHub</li>
+ * <li><code>record</code>: to GitHub, every exchange is stored in <code>GITHUB.FIXTURES</code></li>
+ * <li><code>replay</code>: from the fixtures in <code>GITHUB.FIXTURES</code>, delayed by <code>GITHUB.REPLAY.LATENCY</code> milliseconds</li>
+ * </ul>
+ */
+public enum ConnectorMode {
+
+  LIVE,
+  RECORD,
+  REPLAY;
+
+  public static ConnectorMode get() {
+    return valueOf(System.getProperty("GITHUB.CONNECTOR", "live").toUpperCase());
+  }
+
+  public GitHubConnector connector(GitHubConnector live) throws IOException {
+    switch (this) {
+      case RECORD:
+        return new RecordingConnector(live, fixtures());
+      case REPLAY:
+        return new ReplayConnector(fixtures(), latency());
+      default:
+        return live;
+    }
+  }
+
+  /**
+   * @return the mode with the fixtures and latency it uses, a connector built for other settings is outdated
+   */
+  public static String settings() {
+    var mode = get();
+    switch (mode) {
+      case RECORD:
+        return mode + " " + fixtures().toAbsolutePath();
+      case REPLAY:
+        return mode + " " + fixtures().toAbsolutePath() + " " + latency().toMillis() + "ms";
+      default:
+        return mode.name();
+    }
+  }
+
+  private static Path fixtures() {
+    return Path.of(System.getProperty("GITHUB.FIXTURES", "fixtures"));
+  }
+
+  private static Duration latency() {
+    return Duration.ofMillis(Long.getLong("GITHUB.REPLAY.LATENCY", 0));
+  }
+}
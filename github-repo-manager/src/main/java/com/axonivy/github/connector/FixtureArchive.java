@@ -0,0 +1,120 @@
+package com.axonivy.github.connector;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.apache.commons.lang3.StringUtils;
+import org.kohsuke.github.connector.GitHubConnectorRequest;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+/**
+ * Directory with one JSON file per recorded HTTP exchange. Files are replayed in name order.
+ */
+class FixtureArchive {
+
+  private static final ObjectMapper objectMapper = new ObjectMapper()
+      .enable(SerializationFeature.INDENT_OUTPUT)
+      .setSerializationInclusion(JsonInclude.Include.NON_NULL);
+
+  private final Path dir;
+  private AtomicInteger sequence;
+
+  FixtureArchive(Path dir) {
+    this.dir = dir;
+  }
+
+  synchronized void write(Exchange exchange) throws IOException {
+    if (sequence == null) {
+      Files.createDirectories(dir);
+      try (var files = Files.list(dir)) {
+        sequence = new AtomicInteger((int) files.count());
+      }
+    }
+    var name = String.format("%04d-%s-%s.json", sequence.incrementAndGet(), exchange.method(), fileName(exchange.url()));
+    objectMapper.writeValue(dir.resolve(name).toFile(), exchange);
+  }
+
+  /**
+   * @return all exchanges by {@link Exchange#key()} in recording order
+   */
+  Map<String, List<Exchange>> readAll() throws IOException {
+    if (!Files.isDirectory(dir)) {
+      throw new IOException("Fixture archive " + dir.toAbsolutePath() + " does not exist");
+    }
+    var exchanges = new HashMap<String, List<Exchange>>();
+    try (var files = Files.list(dir)) {
+      for (var file : files.filter(f -> f.toString().endsWith(".json")).sorted().collect(Collectors.toList())) {
+        var exchange = objectMapper.readValue(file.toFile(), Exchange.class);
+        exchanges.computeIfAbsent(exchange.key(), k -> new ArrayList<>()).add(exchange);
+      }
+    }
+    return exchanges;
+  }
+
+  private static String fileName(String url) {
+    var path = StringUtils.substringAfter(url, "://");
+    path = StringUtils.substringAfter(path, "/");
+    var name = path.replaceAll("[^A-Za-z0-9.-]+", "_");
+    return StringUtils.left(name, 80);
+  }
+
+  static String sha256(byte[] bytes) {
+    if (bytes == null) {
+      return null;
+    }
+    try {
+      return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+    } catch (NoSuchAlgorithmException ex) {
+      throw new IllegalStateException(ex);
+    }
+  }
+
+  /**
+   * @param requestBodySha256 hash of the request body, if missing the fixture matches any body
+   * @param body the response body, base64 encoded if <code>base64</code> is set
+   */
+  record Exchange(String method, String url, String requestBodySha256, int status,
+          Map<String, List<String>> headers, String body, boolean base64) {
+
+    static Exchange of(BufferedRequest request, BufferedResponse response) {
+      var body = response.body();
+      var text = isText(response.header("Content-Type"));
+      return new Exchange(request.method(), request.url().toString(), sha256(request.bodyBytes()),
+          response.statusCode(), response.allHeaders(),
+          text ? new String(body, StandardCharsets.UTF_8) : Base64.getEncoder().encodeToString(body), !text);
+    }
+
+    String key() {
+      return method + " " + url;
+    }
+
+    boolean matches(BufferedRequest request) {
+      return requestBodySha256 == null || requestBodySha256.equals(sha256(request.bodyBytes()));
+    }
+
+    BufferedResponse toResponse(GitHubConnectorRequest request) {
+      var bytes = body == null ? new byte[0]
+          : base64 ? Base64.getDecoder().decode(body) : body.getBytes(StandardCharsets.UTF_8);
+      return new BufferedResponse(request, status, headers == null ? Map.of() : headers, bytes);
+    }
+
+    private static boolean isText(String contentType) {
+      return contentType != null && (contentType.contains("json") || contentType.startsWith("text/"));
+    }
+  }
+}
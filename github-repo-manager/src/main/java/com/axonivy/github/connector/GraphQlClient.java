@@ -0,0 +1,51 @@
+package com.axonivy.github.connector;
+
+import java.io.IOException;
+import java.net.URL;
+import java.util.Map;
+
+import org.kohsuke.github.connector.GitHubConnector;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Sends GraphQL queries through the same connectors as the REST client, so they are scheduled,
+ * counted in the {@link ApiMetrics} and recorded or replayed like any other call.
+ */
+public class GraphQlClient {
+
+  private static final ObjectMapper objectMapper = new ObjectMapper();
+
+  private final GitHubConnector connector;
+  private final URL endpoint;
+  private final String token;
+
+  public GraphQlClient(GitHubConnector connector, URL endpoint, String token) {
+    this.connector = connector;
+    this.endpoint = endpoint;
+    this.token = token;
+  }
+
+  /**
+   * @return the <code>data</code> of the answer, fields that could not be resolved are <code>null</code>
+   * @throws IOException if GitHub did not answer with data
+   */
+  public JsonNode query(String query) throws IOException {
+    var body = objectMapper.writeValueAsBytes(Map.of("query", query));
+    var request = BufferedRequest.post(endpoint, "application/json", body)
+        .withHeader("Authorization", "bearer " + token);
+    try (var response = connector.send(request)) {
+      var status = response.statusCode();
+      if (status != 200) {
+        throw new IOException("GraphQL query failed with status " + status);
+      }
+      var json = objectMapper.readTree(response.bodyStream());
+      var data = json.get("data");
+      if (data == null || data.isNull()) {
+        throw new IOException("GraphQL query failed: " + json.path("errors").path(0).path("message").asText());
+      }
+      return data;
+    }
+  }
+}
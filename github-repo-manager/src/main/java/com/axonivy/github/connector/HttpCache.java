@@ -0,0 +1,123 @@
+package com.axonivy.github.connector;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.stream.Collectors;
+
+import com.axonivy.github.connector.FixtureArchive.Exchange;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Responses on disk, one file per request, limited in size by evicting the least recently used entries.
+ * The order of use survives runs through the modification time of the files.
+ */
+class HttpCache {
+
+  private static final ObjectMapper objectMapper = new ObjectMapper();
+
+  private final Path dir;
+  private final long maxBytes;
+  private final LinkedHashMap<String, Long> entries = new LinkedHashMap<>(16, 0.75f, true);
+  private long bytes;
+
+  HttpCache(Path dir, long maxBytes) throws IOException {
+    this.dir = dir;
+    this.maxBytes = maxBytes;
+    Files.createDirectories(dir);
+    try (var files = Files.list(dir)) {
+      var cached = files.filter(file -> !file.getFileName().toString().endsWith(".tmp"))
+          .sorted(Comparator.comparing(HttpCache::lastModified))
+          .collect(Collectors.toList());
+      for (var file : cached) {
+        var size = Files.size(file);
+        entries.put(file.getFileName().toString(), size);
+        bytes += size;
+      }
+    }
+  }
+
+  /**
+   * Only the index is looked up under the lock, the file is read outside of it. A file that is evicted in the
+   * meantime is a miss, a replaced one is read completely either in its old or in its new version.
+   */
+  Exchange get(String key) {
+    Long size;
+    synchronized (this) {
+      size = entries.get(key);
+    }
+    if (size == null) {
+      return null;
+    }
+    var file = dir.resolve(key);
+    Exchange exchange;
+    try (var in = Files.newInputStream(file)) {
+      exchange = objectMapper.readValue(in, Exchange.class);
+    } catch (IOException ex) {
+      discard(key, size);
+      return null;
+    }
+    try {
+      Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));
+    } catch (IOException ex) {
+      // evicted since, the order in memory is up to date anyway
+    }
+    return exchange;
+  }
+
+  synchronized void put(String key, Exchange exchange) throws IOException {
+    var file = dir.resolve(key);
+    var tmp = dir.resolve(key + ".tmp");
+    objectMapper.writeValue(tmp.toFile(), exchange);
+    Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    var size = Files.size(file);
+    var replaced = entries.put(key, size);
+    bytes += size - (replaced == null ? 0 : replaced);
+    evict();
+  }
+
+  synchronized int size() {
+    return entries.size();
+  }
+
+  synchronized long bytes() {
+    return bytes;
+  }
+
+  private void evict() throws IOException {
+    var eldest = entries.entrySet().iterator();
+    while (bytes > maxBytes && eldest.hasNext()) {
+      var entry = eldest.next();
+      Files.deleteIfExists(dir.resolve(entry.getKey()));
+      bytes -= entry.getValue();
+      eldest.remove();
+    }
+  }
+
+  /**
+   * Removes an unreadable entry unless it has been replaced since.
+   */
+  private synchronized void discard(String key, Long size) {
+    if (!entries.remove(key, size)) {
+      return;
+    }
+    bytes -= size;
+    try {
+      Files.deleteIfExists(dir.resolve(key));
+    } catch (IOException ex) {
+      // entry is gone from the index, a stale file is overwritten or evicted later
+    }
+  }
+
+  private static FileTime lastModified(Path file) {
+    try {
+      return Files.getLastModifiedTime(file);
+    } catch (IOException ex) {
+      return FileTime.fromMillis(0);
+    }
+  }
+}
@@ -0,0 +1,138 @@
+package com.axonivy.github.connector;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.time.Instant;
+import java.util.Objects;
+
+import org.apache.commons.lang3.StringUtils;
+import org.kohsuke.github.connector.GitHubConnector;
+import org.kohsuke.github.connector.GitHubConnectorRequest;
+import org.kohsuke.github.connector.GitHubConnectorResponse;
+
+/**
+ * Records every call of a tool in the {@link ApiMetrics}. The connectors below it see the tool
+ * of the current call through {@link #tool()}, e.g. to count retries. Answers the {@link CachingConnector}
+ * served from its cache are recorded as <code>304</code> without their body bytes.
+ */
+public class MetricsConnector implements GitHubConnector {
+
+  private static final ThreadLocal<String> TOOL = new ThreadLocal<>();
+
+  private final GitHubConnector delegate;
+  private final String tool;
+  private final ApiMetrics metrics;
+
+  public MetricsConnector(GitHubConnector delegate, String tool) {
+    this(delegate, tool, ApiMetrics.get());
+  }
+
+  MetricsConnector(GitHubConnector delegate, String tool, ApiMetrics metrics) {
+    this.delegate = delegate;
+    this.tool = tool;
+    this.metrics = metrics;
+  }
+
+  static String tool() {
+    return Objects.requireNonNullElse(TOOL.get(), "unknown");
+  }
+
+  @Override
+  public GitHubConnectorResponse send(GitHubConnectorRequest request) throws IOException {
+    var endpoint = ApiMetrics.endpoint(request.url().getPath());
+    var outer = TOOL.get();
+    TOOL.set(tool);
+    var start = System.nanoTime();
+    try {
+      var response = delegate.send(request);
+      var fromCache = CachingConnector.isFromCache(response);
+      metrics.record(tool, endpoint, fromCache ? HttpURLConnection.HTTP_NOT_MODIFIED : response.statusCode(), System.nanoTime() - start);
+      rateLimit(response);
+      if (fromCache) {
+        // only the 304 went over the wire, the body is served from disk
+        return response;
+      }
+      return new CountingResponse(response, bytes -> metrics.bytes(tool, endpoint, bytes));
+    } catch (IOException ex) {
+      metrics.record(tool, endpoint, 599, System.nanoTime() - start);
+      throw ex;
+    } finally {
+      TOOL.set(outer);
+    }
+  }
+
+  private void rateLimit(GitHubConnectorResponse response) {
+    var remaining = response.header("X-RateLimit-Remaining");
+    var limit = response.header("X-RateLimit-Limit");
+    var reset = response.header("X-RateLimit-Reset");
+    if (remaining == null || limit == null || reset == null) {
+      return;
+    }
+    try {
+      var resource = StringUtils.defaultIfBlank(response.header("X-RateLimit-Resource"), "core");
+      metrics.rateLimit(resource, Integer.parseInt(limit), Integer.parseInt(remaining), Instant.ofEpochSecond(Long.parseLong(reset)));
+    } catch (NumberFormatException ex) {
+      // not a rate limited response
+    }
+  }
+
+  /**
+   * Passes the response through and counts the bytes of the body the client reads.
+   */
+  private static class CountingResponse extends GitHubConnectorResponse {
+
+    private final GitHubConnectorResponse response;
+    private final ByteCounter counter;
+    private long bytes;
+
+    CountingResponse(GitHubConnectorResponse response, ByteCounter counter) {
+      super(response.request(), response.statusCode(), response.allHeaders());
+      this.response = response;
+      this.counter = counter;
+    }
+
+    @Override
+    public InputStream bodyStream() throws IOException {
+      var in = response.bodyStream();
+      if (in == null) {
+        return null;
+      }
+      return new FilterInputStream(in) {
+
+        @Override
+        public int read() throws IOException {
+          var b = super.read();
+          if (b != -1) {
+            bytes++;
+          }
+          return b;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+          var read = super.read(buffer, offset, length);
+          if (read > 0) {
+            bytes += read;
+          }
+          return read;
+        }
+      };
+    }
+
+    @Override
+    public void close() throws IOException {
+      try {
+        response.close();
+      } finally {
+        counter.add(bytes);
+        bytes = 0;
+      }
+    }
+  }
+
+  private interface ByteCounter {
+    void add(long bytes);
+  }
+}
@@ -0,0 +1,30 @@
+package com.axonivy.github.connector;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import org.kohsuke.github.connector.GitHubConnector;
+import org.kohsuke.github.connector.GitHubConnectorRequest;
+import org.kohsuke.github.connector.GitHubConnectorResponse;
+
+/**
+ * Passes all requests to GitHub and writes every exchange into a {@link FixtureArchive}.
+ */
+public class RecordingConnector implements GitHubConnector {
+
+  private final GitHubConnector delegate;
+  private final FixtureArchive archive;
+
+  public RecordingConnector(GitHubConnector delegate, Path fixtures) {
+    this.delegate = delegate;
+    this.archive = new FixtureArchive(fixtures);
+  }
+
+  @Override
+  public GitHubConnectorResponse send(GitHubConnectorRequest connectorRequest) throws IOException {
+    var request = BufferedRequest.of(connectorRequest);
+    var response = BufferedResponse.of(connectorRequest, delegate.send(request));
+    archive.write(FixtureArchive.Exchange.of(request, response));
+    return response;
+  }
+}
@@ -0,0 +1,65 @@
+package com.axonivy.github.connector;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.kohsuke.github.connector.GitHubConnector;
+import org.kohsuke.github.connector.GitHubConnectorRequest;
+import org.kohsuke.github.connector.GitHubConnectorResponse;
+
+import com.axonivy.github.connector.FixtureArchive.Exchange;
+
+/**
+ * Answers all requests from a {@link FixtureArchive} without any network access.
+ * Several fixtures for the same request are served in recording order, the last one is repeated.
+ */
+public class ReplayConnector implements GitHubConnector {
+
+  private final Map<String, List<Exchange>> exchanges;
+  private final Map<String, Integer> served = new HashMap<>();
+  private final Duration latency;
+
+  public ReplayConnector(Path fixtures, Duration latency) throws IOException {
+    this.exchanges = new FixtureArchive(fixtures).readAll();
+    this.latency = latency;
+  }
+
+  @Override
+  public GitHubConnectorResponse send(GitHubConnectorRequest connectorRequest) throws IOException {
+    var request = BufferedRequest.of(connectorRequest);
+    var exchange = next(request);
+    if (exchange == null) {
+      throw new IOException("No fixture for " + request.method() + " " + request.url());
+    }
+    delay();
+    return exchange.toResponse(connectorRequest);
+  }
+
+  private synchronized Exchange next(BufferedRequest request) {
+    var key = request.method() + " " + request.url();
+    var candidates = exchanges.getOrDefault(key, List.of()).stream()
+        .filter(exchange -> exchange.matches(request))
+        .toList();
+    if (candidates.isEmpty()) {
+      return null;
+    }
+    var index = served.merge(key + " " + FixtureArchive.sha256(request.bodyBytes()), 1, Integer::sum) - 1;
+    return candidates.get(Math.min(index, candidates.size() - 1));
+  }
+
+  private void delay() throws IOException {
+    if (latency.isZero()) {
+      return;
+    }
+    try {
+      Thread.sleep(latency.toMillis());
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Interrupted while replaying", ex);
+    }
+  }
+}
@@ -0,0 +1,230 @@
+package com.axonivy.github.connector;
+
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.apache.commons.lang3.StringUtils;
+import org.kohsuke.github.connector.GitHubConnector;
+import org.kohsuke.github.connector.GitHubConnectorRequest;
+import org.kohsuke.github.connector.GitHubConnectorResponse;
+
+/**
+ * Sends all requests to GitHub within the limits of the token:
+ * <ul>
+ * <li>tracks the remaining quota per rate limit resource (core, search, graphql, ...) from the response headers</li>
+ * <li>once less than half of a quota is left, spreads the remaining requests evenly until the reset</li>
+ * <li>waits for the reset if a request is rate limited because its quota is used up</li>
+ * <li>backs off with jitter on secondary (abuse) rate limits, retries and lowers the concurrency</li>
+ * </ul>
+ */
+public class RequestScheduler implements GitHubConnector {
+
+  private static final int MAX_RETRIES = 5;
+  private static final Duration BASE_BACKOFF = Duration.ofSeconds(2);
+  private static final String DEFAULT_RESOURCE = "core";
+
+  private final GitHubConnector delegate;
+  private final AdaptiveLimiter limiter;
+  private final Clock clock;
+  private final Sleeper sleeper;
+  private final Map<String, Quota> quotas = new ConcurrentHashMap<>();
+  private Instant nextSlot = Instant.MIN;
+
+  public RequestScheduler(GitHubConnector delegate, int maxConcurrency) {
+    this(delegate, maxConcurrency, Clock.systemUTC(), Thread::sleep);
+  }
+
+  RequestScheduler(GitHubConnector delegate, int maxConcurrency, Clock clock, Sleeper sleeper) {
+    this.delegate = delegate;
+    this.limiter = new AdaptiveLimiter(maxConcurrency, maxConcurrency);
+    this.clock = clock;
+    this.sleeper = sleeper;
+  }
+
+  @Override
+  public GitHubConnectorResponse send(GitHubConnectorRequest connectorRequest) throws IOException {
+    var request = BufferedRequest.of(connectorRequest);
+    var resource = resource(request);
+    for (var attempt = 0;; attempt++) {
+      pace(resource);
+      var response = sendLimited(request);
+      var quota = update(response);
+      if (!isLimited(response) || attempt >= MAX_RETRIES) {
+        return response;
+      }
+      var buffered = BufferedResponse.of(connectorRequest, response);
+      if (quota != null && quota.remaining() == 0 && isRateLimit(buffered)) {
+        waitForReset(resource, quota);
+      } else if (isSecondaryLimit(buffered)) {
+        limiter.onThrottled();
+        sleep(backoff(buffered, attempt));
+      } else {
+        return buffered;
+      }
+      ApiMetrics.get().retry(MetricsConnector.tool(), ApiMetrics.endpoint(request.url().getPath()));
+    }
+  }
+
+  public String statistics() {
+    var text = new StringBuilder("Rate limits: concurrency " + limiter.limit());
+    quotas.forEach((resource, quota) -> text.append(", ").append(resource).append(" ")
+        .append(quota.remaining()).append("/").append(quota.limit()));
+    return text.toString();
+  }
+
+  private GitHubConnectorResponse sendLimited(GitHubConnectorRequest request) throws IOException {
+    try {
+      limiter.acquire();
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Interrupted while waiting for a request slot", ex);
+    }
+    try {
+      var response = delegate.send(request);
+      if (response.statusCode() < 400) {
+        limiter.onSuccess();
+      }
+      return response;
+    } finally {
+      limiter.release();
+    }
+  }
+
+  /**
+   * Spreads the remaining requests until the reset, once half of the quota is used.
+   */
+  private void pace(String resource) throws IOException {
+    var quota = quotas.get(resource);
+    if (quota == null || quota.remaining() * 2 > quota.limit()) {
+      return;
+    }
+    if (quota.remaining() == 0) {
+      waitForReset(resource, quota);
+      return;
+    }
+    var untilReset = Duration.between(clock.instant(), quota.reset());
+    if (untilReset.isNegative()) {
+      return;
+    }
+    var slot = reserveSlot(untilReset.dividedBy(quota.remaining()));
+    var wait = Duration.between(clock.instant(), slot);
+    if (!wait.isNegative() && !wait.isZero()) {
+      sleep(wait);
+    }
+  }
+
+  private synchronized Instant reserveSlot(Duration interval) {
+    var now = clock.instant();
+    var slot = nextSlot.isAfter(now) ? nextSlot : now;
+    nextSlot = slot.plus(interval);
+    return slot;
+  }
+
+  private Quota update(GitHubConnectorResponse response) {
+    var remaining = response.header("X-RateLimit-Remaining");
+    var limit = response.header("X-RateLimit-Limit");
+    var reset = response.header("X-RateLimit-Reset");
+    if (remaining == null || limit == null || reset == null) {
+      return null;
+    }
+    try {
+      var resource = StringUtils.defaultIfBlank(response.header("X-RateLimit-Resource"), DEFAULT_RESOURCE);
+      var quota = new Quota(Integer.parseInt(limit), Integer.parseInt(remaining), Instant.ofEpochSecond(Long.parseLong(reset)));
+      quotas.merge(resource, quota, Quota::latest);
+      return quota;
+    } catch (NumberFormatException ex) {
+      return null;
+    }
+  }
+
+  private static boolean isLimited(GitHubConnectorResponse response) {
+    var status = response.statusCode();
+    return status == HttpURLConnection.HTTP_FORBIDDEN || status == 429;
+  }
+
+  /**
+   * A 403 may also deny access while the quota happens to be used up, only a rate limit answer waits for the reset.
+   */
+  private static boolean isRateLimit(BufferedResponse response) {
+    if (response.statusCode() == 429 || response.header("Retry-After") != null) {
+      return true;
+    }
+    var body = new String(response.body(), StandardCharsets.UTF_8);
+    return StringUtils.containsIgnoreCase(body, "rate limit");
+  }
+
+  private static boolean isSecondaryLimit(BufferedResponse response) {
+    if (response.header("Retry-After") != null) {
+      return true;
+    }
+    var body = new String(response.body(), StandardCharsets.UTF_8);
+    return StringUtils.containsIgnoreCase(body, "secondary rate limit") || StringUtils.containsIgnoreCase(body, "abuse");
+  }
+
+  private static Duration backoff(BufferedResponse response, int attempt) {
+    var retryAfter = response.header("Retry-After");
+    if (StringUtils.isNumeric(retryAfter)) {
+      return Duration.ofSeconds(Long.parseLong(retryAfter));
+    }
+    var backoff = BASE_BACKOFF.multipliedBy(1L << attempt);
+    var jitter = ThreadLocalRandom.current().nextLong(backoff.toMillis() / 2 + 1);
+    return backoff.plusMillis(jitter);
+  }
+
+  private static String resource(GitHubConnectorRequest request) {
+    var path = request.url().getPath();
+    if (path.startsWith("/search/")) {
+      return "search";
+    }
+    if (path.equals("/graphql")) {
+      return "graphql";
+    }
+    return DEFAULT_RESOURCE;
+  }
+
+  private void waitForReset(String resource, Quota quota) throws IOException {
+    var wait = Duration.between(clock.instant(), quota.reset()).plusSeconds(1);
+    if (!wait.isNegative()) {
+      sleep(wait);
+    }
+    // the next response tells the quota of the new window
+    quotas.remove(resource);
+  }
+
+  private void sleep(Duration duration) throws IOException {
+    try {
+      sleeper.sleep(duration.toMillis());
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Interrupted while waiting for the rate limit", ex);
+    }
+  }
+
+  int concurrency() {
+    return limiter.limit();
+  }
+
+  interface Sleeper {
+    void sleep(long millis) throws InterruptedException;
+  }
+
+  private record Quota(int limit, int remaining, Instant reset) {
+
+    /**
+     * Responses may arrive out of order, keep the quota of the latest window with the least remaining.
+     */
+    Quota latest(Quota other) {
+      if (!reset.equals(other.reset)) {
+        return reset.isAfter(other.reset) ? this : other;
+      }
+      return remaining <= other.remaining ? this : other;
+    }
+  }
+}
@@ -0,0 +1,117 @@
+package com.axonivy.github.file;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.kohsuke.github.GHUser;
+import org.kohsuke.github.GitHub;
+
+import com.axonivy.github.DryRun;
+import com.axonivy.github.file.FileChanges.Action;
+import com.axonivy.github.file.FileChanges.Change;
+import com.axonivy.github.file.GitHubFiles.FileMeta;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+/**
+ * The changes a sweep would push, per repository together with the head of the default branch they are based on.
+ * Written by a sweep with <code>GITHUB.FILES.PLAN</code> and pushed later with <code>GITHUB.FILES.APPLY</code>
+ * without reading the repositories again: a repository whose default branch moved in between is skipped.
+ * Equal file contents are stored once, keyed by their git blob sha.
+ */
+public class ChangePlan {
+
+  private static final Logger LOG = new Logger();
+  private static final ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+  private final Map<String, PlannedRepo> repos;
+  private final Map<String, byte[]> blobs;
+
+  private ChangePlan(Map<String, PlannedRepo> repos, Map<String, byte[]> blobs) {
+    this.repos = repos;
+    this.blobs = blobs;
+  }
+
+  public static ChangePlan create() {
+    return new ChangePlan(new TreeMap<>(), new TreeMap<>());
+  }
+
+  public static ChangePlan load(Path file) throws IOException {
+    var plan = objectMapper.readValue(file.toFile(), Plan.class);
+    var repos = new TreeMap<String, PlannedRepo>();
+    plan.repos().forEach(repo -> repos.put(repo.repo(), repo));
+    return new ChangePlan(repos, new TreeMap<>(plan.blobs()));
+  }
+
+  public synchronized void add(String repo, String head, FileChanges changes) {
+    var files = new ArrayList<PlannedFile>();
+    for (var change : changes.changes()) {
+      String blobSha = null;
+      if (change.content() != null) {
+        blobSha = GitBlob.sha(change.content());
+        blobs.put(blobSha, change.content());
+      }
+      files.add(new PlannedFile(change.meta(), change.action(), change.observedSha(), blobSha));
+    }
+    repos.put(repo, new PlannedRepo(repo, head, files));
+  }
+
+  public synchronized void save(Path file) throws IOException {
+    objectMapper.writeValue(file.toFile(), new Plan(List.copyOf(repos.values()), blobs));
+    LOG.info("Planned changes for {0} repositories in {1}.", repos.size(), file);
+  }
+
+  /**
+   * Pushes the planned changes, one commit and pull request per repository.
+   * @return 0 if all changes have been pushed
+   */
+  public int apply(GitHub github, GHUser actor) {
+    var results = new ArrayList<RepoResult>();
+    for (var planned : repos.values()) {
+      results.add(apply(github, actor, planned));
+    }
+    var notSync = results.stream().filter(RepoResult::isNotSync).toList();
+    if (notSync.isEmpty()) {
+      LOG.info("Applied the changes to {0} repositories.", results.size());
+      return 0;
+    }
+    LOG.error("{0} of {1} repositories have not been changed:", notSync.size(), results.size());
+    notSync.forEach(result -> LOG.error("  {0}", result));
+    return 1;
+  }
+
+  private RepoResult apply(GitHub github, GHUser actor, PlannedRepo planned) {
+    var changes = FileChanges.of(planned.files().stream().map(this::toChange).toList());
+    if (DryRun.is()) {
+      LOG.info("DRYRUN: ");
+      return RepoResult.outOfSync(planned.repo(), changes.toString());
+    }
+    try {
+      var repo = github.getRepository(planned.repo());
+      var head = repo.getBranch(repo.getDefaultBranch()).getSHA1();
+      if (!head.equals(planned.head())) {
+        return RepoResult.failed(planned.repo(), "default branch moved from " + planned.head() + " to " + head + ", plan again");
+      }
+      var prUrl = changes.commit(repo, head, actor);
+      return RepoResult.fixed(planned.repo(), "review the PR on " + prUrl);
+    } catch (Exception ex) {
+      LOG.error("Cannot apply the plan to repo {0}: {1}", planned.repo(), ex.getMessage());
+      return RepoResult.failed(planned.repo(), String.valueOf(ex.getMessage()));
+    }
+  }
+
+  private Change toChange(PlannedFile file) {
+    var content = file.blobSha() == null ? null : blobs.get(file.blobSha());
+    return new Change(file.meta(), file.action(), file.observedSha(), content);
+  }
+
+  record Plan(List<PlannedRepo> repos, Map<String, byte[]> blobs) {}
+
+  record PlannedRepo(String repo, String head, List<PlannedFile> files) {}
+
+  record PlannedFile(FileMeta meta, Action action, String observedSha, String blobSha) {}
+}
@@ -0,0 +1,84 @@
+package com.axonivy.github.file;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.apache.commons.lang3.StringUtils;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Finds the owner of a repository in <code>CodeOwners.json</code>. The entries are compiled once into an
+ * immutable index that is safe to share between workers. A repository that is named exactly like a product
+ * belongs to it, otherwise the longest product contained in the repository url wins, independent of the
+ * order in the file. All products are looked for in one pass over the url with a {@link SubstringMatcher}.
+ */
+class CodeOwnerIndex {
+
+  private static final String CODE_OWNER_FILE_NAME = "CodeOwners.json";
+  private static final TypeReference<List<CodeOwner>> CODE_OWNER_TYPE_REFERENCE = new TypeReference<>() {
+  };
+  private static final String CODE_OWNER_FORMAT = "*  %s";
+
+  private final Map<String, byte[]> byProduct;
+  private final SubstringMatcher productMatcher;
+
+  CodeOwnerIndex(List<CodeOwner> codeOwners) {
+    var rendered = new HashMap<String, byte[]>();
+    var products = new HashMap<String, byte[]>();
+    for (var codeOwner : codeOwners) {
+      var content = rendered.computeIfAbsent(codeOwner.owner(),
+          owner -> String.format(CODE_OWNER_FORMAT, owner).getBytes(StandardCharsets.UTF_8));
+      products.putIfAbsent(codeOwner.product(), content);
+    }
+    this.byProduct = Map.copyOf(products);
+    this.productMatcher = new SubstringMatcher(products.keySet());
+  }
+
+  static CodeOwnerIndex get() {
+    return Holder.INDEX;
+  }
+
+  /**
+   * @param repoURL the url of the repository, e.g. <code>https://api.github.com/repos/axonivy-market/market</code>
+   * @return the content of the CODEOWNERS file for the repository
+   */
+  Optional<byte[]> codeOwners(String repoURL) {
+    var fullName = fullName(repoURL);
+    var content = byProduct.get(fullName);
+    if (content == null) {
+      content = productMatcher.longestIn(repoURL).map(byProduct::get).orElse(null);
+    }
+    return Optional.ofNullable(content).map(byte[]::clone);
+  }
+
+  private static String fullName(String repoURL) {
+    var name = StringUtils.substringAfterLast(repoURL, "/");
+    var owner = StringUtils.substringAfterLast(StringUtils.substringBeforeLast(repoURL, "/"), "/");
+    return owner + "/" + name;
+  }
+
+  private static CodeOwnerIndex load() {
+    try (var is = CodeOwnerIndex.class.getResourceAsStream(CODE_OWNER_FILE_NAME)) {
+      if (is == null) {
+        throw new IOException(CODE_OWNER_FILE_NAME + " file not found");
+      }
+      return new CodeOwnerIndex(new ObjectMapper().readValue(is, CODE_OWNER_TYPE_REFERENCE));
+    } catch (IOException ex) {
+      throw new UncheckedIOException(ex);
+    }
+  }
+
+  private static class Holder {
+    private static final CodeOwnerIndex INDEX = load();
+  }
+
+  record CodeOwner(String product, String owner) {
+  }
+}
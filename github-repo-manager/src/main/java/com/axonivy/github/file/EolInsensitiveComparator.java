@@ -0,0 +1,116 @@
+package com.axonivy.github.file;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Compares two byte streams while treating CRLF, LF and CR as the same line break.
+ * Like {@link org.apache.commons.io.IOUtils#contentEqualsIgnoreEOL} a missing final line break makes no difference.
+ * Nothing is decoded and the comparison stops at the first mismatch.
+ */
+public final class EolInsensitiveComparator {
+
+  public static final long EQUAL = -1;
+
+  private EolInsensitiveComparator() {
+  }
+
+  /**
+   * @return the offset in <code>actual</code> of the first byte that differs, or {@link #EQUAL}
+   */
+  public static long firstDifference(InputStream expected, InputStream actual) throws IOException {
+    var left = new Lines(expected);
+    var right = new Lines(actual);
+    while (true) {
+      int l = left.next();
+      int r = right.next();
+      if (l == r) {
+        if (l == -1) {
+          return EQUAL;
+        }
+        continue;
+      }
+      var difference = right.position();
+      if (l == -1 && right.isFinalLineBreak(r, left) || r == -1 && left.isFinalLineBreak(l, right)) {
+        return EQUAL;
+      }
+      return difference;
+    }
+  }
+
+  public static boolean contentEquals(InputStream expected, InputStream actual) throws IOException {
+    return firstDifference(expected, actual) == EQUAL;
+  }
+
+  /**
+   * Reads a stream with every line break turned into a single LF.
+   */
+  private static final class Lines {
+
+    private final InputStream in;
+    private final byte[] buffer = new byte[8192];
+    private int limit;
+    private int index;
+    private long consumed;
+    private long position;
+    private boolean eof;
+    private int last = -1;
+
+    Lines(InputStream in) {
+      this.in = in;
+    }
+
+    int next() throws IOException {
+      position = consumed;
+      int b = read();
+      if (b == '\r') {
+        if (peek() == '\n') {
+          read();
+        }
+        b = '\n';
+      }
+      if (b != -1) {
+        last = b;
+      }
+      return b;
+    }
+
+    /**
+     * @return true if <code>b</code> is a line break that only ends the last line, which the other stream left open
+     */
+    boolean isFinalLineBreak(int b, Lines other) throws IOException {
+      return b == '\n' && other.last != '\n' && other.last != -1 && next() == -1;
+    }
+
+    /**
+     * @return offset of the byte last returned by {@link #next()}, the stream length at its end
+     */
+    long position() {
+      return position;
+    }
+
+    private int read() throws IOException {
+      if (!fill()) {
+        return -1;
+      }
+      consumed++;
+      return buffer[index++] & 0xff;
+    }
+
+    private int peek() throws IOException {
+      return fill() ? buffer[index] & 0xff : -1;
+    }
+
+    private boolean fill() throws IOException {
+      while (index == limit && !eof) {
+        limit = in.read(buffer);
+        index = 0;
+        if (limit == -1) {
+          limit = 0;
+          eof = true;
+        }
+      }
+      return index < limit;
+    }
+  }
+}
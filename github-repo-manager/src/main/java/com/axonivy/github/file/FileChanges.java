@@ -0,0 +1,205 @@
+package com.axonivy.github.file;
+
+import java.io.IOException;
+import java.net.URL;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.kohsuke.github.GHCompare;
+import org.kohsuke.github.GHFileNotFoundException;
+import org.kohsuke.github.GHIssueState;
+import org.kohsuke.github.GHPullRequest;
+import org.kohsuke.github.GHRef;
+import org.kohsuke.github.GHRepository;
+import org.kohsuke.github.GHUser;
+
+import com.axonivy.github.DryRun;
+import com.axonivy.github.file.GitHubFiles.FileMeta;
+
+/**
+ * Collects the files the rules want to add, update or remove in one repository, so they can be pushed
+ * as a single commit on a single branch with a single pull request. Enabled with <code>GITHUB.FILES.BATCH</code>
+ * or when a {@link ChangePlan} is written, otherwise every rule opens its own pull request.
+ */
+public class FileChanges {
+
+  static final String BRANCH_NAME = "Sync_Repository_Files";
+  private static final String BRANCH_REF = "refs/heads/" + BRANCH_NAME;
+  private static final String PULL_REQUEST_TITLE = "Sync repository files";
+  private static final Logger LOG = new Logger();
+  private final boolean batched;
+  private final Map<String, Change> changes = new LinkedHashMap<>();
+
+  private FileChanges(boolean batched) {
+    this.batched = batched;
+  }
+
+  /**
+   * @param planned if the changes are recorded in a plan instead of being pushed
+   */
+  public static FileChanges create(boolean planned) {
+    return new FileChanges(planned || enabled() && !DryRun.is());
+  }
+
+  static FileChanges of(List<Change> changes) {
+    var fileChanges = new FileChanges(true);
+    changes.forEach(fileChanges::put);
+    return fileChanges;
+  }
+
+  public static boolean enabled() {
+    return Boolean.getBoolean("GITHUB.FILES.BATCH");
+  }
+
+  public boolean isBatched() {
+    return batched;
+  }
+
+  public void add(FileMeta meta, byte[] content) {
+    put(new Change(meta, Action.ADD, null, content));
+  }
+
+  /**
+   * @param observedSha the blob sha of the file that is replaced
+   */
+  public void update(FileMeta meta, String observedSha, byte[] content) {
+    put(new Change(meta, Action.UPDATE, observedSha, content));
+  }
+
+  /**
+   * @param observedSha the blob sha of the file that is removed
+   */
+  public void remove(FileMeta meta, String observedSha) {
+    put(new Change(meta, Action.REMOVE, observedSha, null));
+  }
+
+  private void put(Change change) {
+    changes.put(change.meta().filePath(), change);
+  }
+
+  public boolean contains(String path) {
+    return changes.containsKey(path);
+  }
+
+  public boolean isEmpty() {
+    return changes.isEmpty();
+  }
+
+  List<Change> changes() {
+    return List.copyOf(changes.values());
+  }
+
+  /**
+   * Commits all changes on the {@link #BRANCH_NAME} branch and opens one pull request for them, or reuses the open one.
+   * The branch starts from the given head of the default branch unless it has commits the default branch does not
+   * have yet, e.g. of a previous run or a reviewer: then the changes are added on top of them.
+   * @return the url of the pull request
+   */
+  public URL commit(GHRepository repo, String head, GHUser actor) throws IOException {
+    var branchRef = branchRef(repo);
+    var base = head;
+    if (branchRef.isPresent() && hasOwnCommits(repo, head, branchRef.get())) {
+      base = branchRef.get().getObject().getSha();
+    }
+    var baseTree = repo.getCommit(base).getTree().getSha();
+    var tree = repo.createTree().baseTree(baseTree);
+    var message = new StringBuilder(PULL_REQUEST_TITLE).append("\n");
+    for (var change : changes.values()) {
+      if (change.action() == Action.REMOVE) {
+        tree.delete(change.meta().filePath());
+      } else {
+        tree.add(change.meta().filePath(), change.content(), false);
+      }
+      message.append("\n- ").append(change.meta().commitMessage());
+    }
+    var treeSha = tree.create().getSha();
+    if (!treeSha.equals(baseTree) || branchRef.isEmpty()) {
+      var commit = repo.createCommit()
+          .message(message.toString())
+          .tree(treeSha)
+          .parent(base)
+          .create();
+      if (branchRef.isPresent()) {
+        // moves over own commits only: either the base is the branch itself or the branch is part of the default branch
+        branchRef.get().updateTo(commit.getSHA1(), !base.equals(branchRef.get().getObject().getSha()));
+      } else {
+        repo.createRef(BRANCH_REF, commit.getSHA1());
+      }
+    }
+    var openPr = openPullRequest(repo);
+    if (openPr.isPresent()) {
+      LOG.info("Updated the PR on {0}", openPr.get().getHtmlUrl());
+      return openPr.get().getHtmlUrl();
+    }
+    var pr = repo.createPullRequest(PULL_REQUEST_TITLE, BRANCH_NAME, repo.getDefaultBranch(), body());
+    if (actor != null) {
+      pr.setAssignees(actor);
+    }
+    LOG.info("Review the PR on {0}", pr.getHtmlUrl());
+    return pr.getHtmlUrl();
+  }
+
+  private static Optional<GHRef> branchRef(GHRepository repo) throws IOException {
+    try {
+      var ref = repo.getRef(BRANCH_REF);
+      return BRANCH_REF.equals(ref.getRef()) ? Optional.of(ref) : Optional.empty();
+    } catch (GHFileNotFoundException ex) {
+      return Optional.empty();
+    }
+  }
+
+  /**
+   * @return if the branch has commits that are not on the default branch
+   */
+  private static boolean hasOwnCommits(GHRepository repo, String head, GHRef branchRef) throws IOException {
+    var branchSha = branchRef.getObject().getSha();
+    if (branchSha.equals(head)) {
+      return false;
+    }
+    var status = repo.getCompare(head, branchSha).getStatus();
+    return status != GHCompare.Status.behind && status != GHCompare.Status.identical;
+  }
+
+  private static Optional<GHPullRequest> openPullRequest(GHRepository repo) throws IOException {
+    return repo.queryPullRequests()
+        .head(repo.getOwnerName() + ":" + BRANCH_NAME)
+        .state(GHIssueState.OPEN)
+        .list()
+        .toList()
+        .stream()
+        .findFirst();
+  }
+
+  private String body() {
+    var body = new StringBuilder("This pull request brings the repository in line with the organization:\n");
+    for (var change : changes.values()) {
+      body.append("\n- ")
+          .append(change.meta().pullRequestTitle())
+          .append(": `")
+          .append(change.meta().filePath())
+          .append('`');
+    }
+    return body.toString();
+  }
+
+  @Override
+  public String toString() {
+    var text = new StringBuilder();
+    for (var change : changes.values()) {
+      text.append(text.isEmpty() ? "" : ", ").append(change.action()).append(' ').append(change.meta().filePath());
+    }
+    return text.toString();
+  }
+
+  enum Action {
+    ADD, UPDATE, REMOVE
+  }
+
+  /**
+   * @param observedSha the blob sha of the file when the change has been decided, <code>null</code> for new files
+   * @param content the new content, <code>null</code> for removed files
+   */
+  record Change(FileMeta meta, Action action, String observedSha, byte[] content) {}
+}
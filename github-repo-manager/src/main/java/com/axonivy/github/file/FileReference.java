@@ -2,10 +2,17 @@ package com.axonivy.github.file;
 
 import com.axonivy.github.file.GitHubFiles.FileMeta;
 import org.apache.commons.io.IOUtils;
+import org.kohsuke.github.GHContent;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class FileReference {
+  private static final Logger LOG = new Logger();
+  private static final Map<String, ReferenceContent> CONTENTS = new ConcurrentHashMap<>();
   FileMeta meta;
 
   public FileReference(FileMeta meta) throws IOException {
@@ -26,6 +33,39 @@ public class FileReference {
   }
 
   public byte[] content() throws IOException {
-    return load(meta);
+    return referenceContent().toByteArray();
   }
-}
\ No newline at end of file
+
+  public ReferenceContent referenceContent() throws IOException {
+    try {
+      return CONTENTS.computeIfAbsent(meta.filePath(), path -> {
+        try {
+          return ReferenceContent.of(load(meta));
+        } catch (IOException ex) {
+          throw new UncheckedIOException(ex);
+        }
+      });
+    } catch (UncheckedIOException ex) {
+      throw ex.getCause();
+    }
+  }
+
+  public Set<String> blobShas() throws IOException {
+    return referenceContent().blobShas();
+  }
+
+  /**
+   * Compares a file of a repository with the reference, ignoring line endings, and logs where they differ.
+   */
+  public boolean hasSimilarContent(GHContent existingFile) throws IOException {
+    try (var inputStream = existingFile.read()) {
+      var difference = referenceContent().firstDifference(inputStream);
+      if (difference != EolInsensitiveComparator.EQUAL) {
+        LOG.info("{0} in repo {1} differs from the reference at byte {2}.", existingFile.getPath(),
+            existingFile.getOwner().getFullName(), difference);
+        return false;
+      }
+      return true;
+    }
+  }
+}
@@ -0,0 +1,31 @@
+package com.axonivy.github.file;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * A rule about a file that every public, active repository of an organization has to follow.
+ * Repositories may be visited concurrently, so a rule must not keep state per repository.
+ */
+interface FileRule {
+
+  /**
+   * @return the file the rule is about
+   */
+  String path();
+
+  /**
+   * Checks the repository and fixes it unless it is a dry run.
+   * @param tree the files on the default branch, shared by all rules of the repository
+   * @param changes collects the fix instead of pushing it, if the changes of all rules are batched
+   * @return what has been found and done in the repository
+   */
+  RepoResult apply(RepoTree tree, FileChanges changes) throws IOException;
+
+  /**
+   * Logs the outcome after all repositories have been visited.
+   * @param results one result per visited repository, in the order the repositories have been listed
+   * @return the exit status of the rule, 0 if all repositories are in sync
+   */
+  int summarize(List<RepoResult> results);
+}
@@ -0,0 +1,53 @@
+package com.axonivy.github.file;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * Computes the object ids git gives to file contents, so they can be compared with the shas of a tree.
+ */
+class GitBlob {
+
+  private GitBlob() {
+  }
+
+  static String sha(byte[] content) {
+    try {
+      var digest = MessageDigest.getInstance("SHA-1");
+      digest.update(("blob " + content.length + "\0").getBytes(StandardCharsets.US_ASCII));
+      return HexFormat.of().formatHex(digest.digest(content));
+    } catch (NoSuchAlgorithmException ex) {
+      throw new RuntimeException(ex);
+    }
+  }
+
+  static byte[] toLf(byte[] content) {
+    var out = new ByteArrayOutputStream(content.length);
+    for (int i = 0; i < content.length; i++) {
+      var b = content[i];
+      if (b == '\r') {
+        out.write('\n');
+        if (i + 1 < content.length && content[i + 1] == '\n') {
+          i++;
+        }
+      } else {
+        out.write(b);
+      }
+    }
+    return out.toByteArray();
+  }
+
+  static byte[] toCrLf(byte[] lf) {
+    var out = new ByteArrayOutputStream(lf.length + lf.length / 16);
+    for (var b : lf) {
+      if (b == '\n') {
+        out.write('\r');
+      }
+      out.write(b);
+    }
+    return out.toByteArray();
+  }
+}
@@ -1,12 +1,10 @@
 package com.axonivy.github.file;
 
 import java.io.IOException;
-import java.io.Reader;
+import java.net.URL;
 import java.util.List;
 import java.util.Objects;
 
-import org.apache.commons.io.IOUtils;
-import org.apache.commons.io.input.CharSequenceReader;
 import org.kohsuke.github.GHContent;
 import org.kohsuke.github.GHRepository;
 import org.kohsuke.github.GHUser;
@@ -16,92 +14,106 @@ import com.axonivy.github.DryRun;
 import com.axonivy.github.GitHubProvider;
 import com.axonivy.github.file.GitHubFiles.FileMeta;
 
-public class GitHubFilesRemover {
+public class GitHubFilesRemover implements FileRule {
 
-  private static final String GITHUB_ORG = ".github";
   private static final Logger LOG = new Logger();
-  private boolean isNotSync;
   private final FileReference reference;
   private final GitHub github;
   private GHUser ghActor;
 
   public GitHubFilesRemover(FileMeta fileMeta, String user) throws IOException {
+    this(fileMeta, GitHubProvider.get(), user);
+  }
+
+  private GitHubFilesRemover(FileMeta fileMeta, GitHub github, String user) throws IOException {
+    this(fileMeta, github, github.getUser(user));
+  }
+
+  /**
+   * @param actor the user the pull requests are assigned to
+   */
+  public GitHubFilesRemover(FileMeta fileMeta, GitHub github, GHUser actor) throws IOException {
     Objects.requireNonNull(fileMeta);
     this.reference = new FileReference(fileMeta);
-    this.github = GitHubProvider.get();
-    this.ghActor = github.getUser(user);
+    this.github = github;
+    this.ghActor = actor;
   }
 
   public int removeFile(List<String> orgNames) throws IOException {
-    Objects.requireNonNull(orgNames);
-    LOG.info("Working on organizations: {0}.", orgNames);
-    for (var orgName : orgNames) {
-      var org = github.getOrganization(orgName);
-      for (var repo : List.copyOf(org.getRepositories().values())) {
-        removeRepoFile(repo);
-      }
-    }
-    if (isNotSync) {
-      LOG.error("At least one repository has {0}.", reference.meta().filePath());
-      LOG.error("Remove {0} manually or run the build without DRYRUN to remove {0} from the repository.",
-          reference.meta().filePath());
-      return -1;
+    return new RepositorySweep(github, List.of(this), ghActor).run(orgNames);
+  }
+
+  @Override
+  public String path() {
+    return reference.meta().filePath();
+  }
+
+  @Override
+  public int summarize(List<RepoResult> results) {
+    var notSync = results.stream().filter(RepoResult::isNotSync).toList();
+    if (notSync.isEmpty()) {
+      return 0;
     }
-    return 0;
+    LOG.error("{0} repositories have {1}:", notSync.size(), path());
+    notSync.forEach(result -> LOG.error("  {0}", result));
+    LOG.error("Remove {0} manually or run the build without DRYRUN to remove {0} from the repository.", path());
+    return -1;
   }
 
-  private void removeRepoFile(GHRepository repo) throws IOException {
-    if (GITHUB_ORG.equals(repo.getName())) {
-      return;
+  @Override
+  public RepoResult apply(RepoTree tree, FileChanges changes) throws IOException {
+    var repo = tree.repo();
+    var path = path();
+    if (tree.isMissing(path)) {
+      return RepoResult.inSync(repo.getFullName());
     }
-    if (repo.isPrivate() || repo.isArchived()) {
-      LOG.info("Repo {0} is {1}.", repo.getFullName(), repo.isPrivate() ? "private" : "archived");
-      return;
+    var blobSha = tree.blobSha(path);
+    if (blobSha.isPresent() && reference.blobShas().contains(blobSha.get())) {
+      LOG.info("Repo {0} contains {1}", repo.getFullName(), path);
+      return handleRemoveFile(repo, blobSha.get(), changes, () -> repo.getFileContent(path, tree.ref()));
     }
 
-    var foundFile = getFileContent(reference.meta().filePath(), repo);
-    if (foundFile != null) {
-      if (hasSimilarContent(foundFile)) {
-        LOG.info("Repo {0} contains {1}", repo.getFullName(), foundFile.getName());
-        isNotSync = true;
-        handleRemoveFile(repo, foundFile);
-      } else {
-        LOG.info("Repo {0} has {1}, but the content is different.", repo.getFullName(), foundFile.getName());
-      }
+    var foundFile = getFileContent(path, tree.ref(), repo);
+    if (foundFile == null) {
+      return RepoResult.inSync(repo.getFullName());
+    }
+    if (reference.hasSimilarContent(foundFile)) {
+      LOG.info("Repo {0} contains {1}", repo.getFullName(), foundFile.getName());
+      return handleRemoveFile(repo, foundFile.getSha(), changes, () -> foundFile);
     }
+    LOG.info("Repo {0} has {1}, but the content is different.", repo.getFullName(), foundFile.getName());
+    return RepoResult.inSync(repo.getFullName());
   }
 
-  private GHContent getFileContent(String path, GHRepository repo) {
+  private GHContent getFileContent(String path, String ref, GHRepository repo) {
     try {
-      return repo.getFileContent(path);
+      return repo.getFileContent(path, ref);
     } catch (Exception e) {
       LOG.error("File {0} in repo {1} is not found.", path, repo.getFullName());
       return null;
     }
   }
 
-  private boolean hasSimilarContent(GHContent existingFile) throws IOException {
-    Reader targetContent = new CharSequenceReader(new String(reference.content()));
-    Reader actualContent = new CharSequenceReader(new String(existingFile.read().readAllBytes()));
-    return IOUtils.contentEqualsIgnoreEOL(targetContent, actualContent);
-  }
-
-  private void handleRemoveFile(GHRepository repo, GHContent foundFile) throws IOException {
+  private RepoResult handleRemoveFile(GHRepository repo, String blobSha, FileChanges changes, FoundFile foundFile) throws IOException {
     try {
+      if (changes.isBatched()) {
+        changes.remove(reference.meta(), blobSha);
+        return RepoResult.fixed(repo.getFullName(), "batched");
+      }
       if (DryRun.is()) {
-        isNotSync = true;
         LOG.info("DRYRUN: ");
-      } else {
-        removeFileOnGit(repo, foundFile);
+        return RepoResult.outOfSync(repo.getFullName(), path() + " has to be removed");
       }
-      LOG.info("Repo {0} file {1} removed.", repo.getFullName(), reference.meta().filePath());
+      var prUrl = removeFileOnGit(repo, foundFile.get());
+      LOG.info("Repo {0} file {1} removed.", repo.getFullName(), path());
+      return RepoResult.fixed(repo.getFullName(), "review the PR on " + prUrl);
     } catch (IOException ex) {
-      LOG.error("Cannot remove {0} from repo {1}.", repo.getFullName(), reference.meta().filePath());
+      LOG.error("Cannot remove {0} from repo {1}.", path(), repo.getFullName());
       throw ex;
     }
   }
 
-  private void removeFileOnGit(GHRepository repo, GHContent foundFile) throws IOException {
+  private URL removeFileOnGit(GHRepository repo, GHContent foundFile) throws IOException {
     var defaultBranch = repo.getBranch(repo.getDefaultBranch());
     var sha1 = defaultBranch.getSHA1();
     repo.createRef("refs/heads/" + reference.meta().branchName(), sha1);
@@ -112,6 +124,10 @@ public class GitHubFilesRemover {
     }
     LOG.info("Review the PR on "+ pr.getHtmlUrl());
     //pr.merge(reference.meta().commitMessage());
+    return pr.getHtmlUrl();
   }
 
+  private interface FoundFile {
+    GHContent get() throws IOException;
+  }
 }
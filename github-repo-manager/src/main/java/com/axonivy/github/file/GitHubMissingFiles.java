@@ -1,9 +1,15 @@
 package com.axonivy.github.file;
 
 import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 
+import org.apache.commons.lang3.StringUtils;
+
+import com.axonivy.github.GitHubProvider;
 import com.axonivy.github.file.GitHubFiles.FileMeta;
 
 import static com.axonivy.github.file.GitHubFiles.*;
@@ -19,22 +25,35 @@ public class GitHubMissingFiles {
       user = args[0];
       System.out.println("running updates triggered by user "+user);
     }
-    int status = 0;
-    List<String> workingOrganizations = getWorkingOrganizations();
+    System.exit(run(user));
+  }
+
+  /**
+   * @return 0 if all repositories are in sync
+   */
+  public static int run(String user) throws IOException {
+    var github = GitHubProvider.getGithubToken();
+    var actor = github.getUser(user);
+    var applyFile = System.getProperty("GITHUB.FILES.APPLY");
+    if (StringUtils.isNotBlank(applyFile)) {
+      return ChangePlan.load(Path.of(applyFile)).apply(github, actor);
+    }
+    var rules = new ArrayList<FileRule>();
     for (var fileMeta : REQUIRED_FILES) {
-      var detector = new GitHubMissingFilesDetector(fileMeta, user);
-      var returnedStatus = detector.requireFile(workingOrganizations);
-      status = returnedStatus != 0 ? returnedStatus : status;
+      rules.add(new GitHubMissingFilesDetector(fileMeta, github, actor));
     }
     for (var fileMeta : REMOVE_FILES) {
-      var detector = new GitHubFilesRemover(fileMeta, user);
-      var returnedStatus = detector.removeFile(workingOrganizations);
-      status = returnedStatus != 0 ? returnedStatus : status;
+      rules.add(new GitHubFilesRemover(fileMeta, github, actor));
+    }
+    rules.add(new CodeOwnerFilesDetector(CODE_OWNERS, github, actor));
+    var planFile = Optional.ofNullable(System.getProperty("GITHUB.FILES.PLAN")).filter(StringUtils::isNotBlank).map(Path::of);
+    var plan = planFile.map(file -> ChangePlan.create());
+    var sweep = new RepositorySweep(github, rules, actor, plan);
+    var status = sweep.run(getWorkingOrganizations());
+    if (plan.isPresent()) {
+      plan.get().save(planFile.get());
     }
-    var codeOwnerDetector = new CodeOwnerFilesDetector(CODE_OWNERS, user);
-    var returnedStatus = codeOwnerDetector.requireFile(workingOrganizations);
-    status = returnedStatus != 0 ? returnedStatus : status;
-    System.exit(status);
+    return status;
   }
 
   private static List<String> getWorkingOrganizations() {
@@ -3,77 +3,94 @@ package com.axonivy.github.file;
 import com.axonivy.github.DryRun;
 import com.axonivy.github.GitHubProvider;
 import com.axonivy.github.file.GitHubFiles.FileMeta;
-import org.apache.commons.io.IOUtils;
-import org.apache.commons.io.input.CharSequenceReader;
 import org.kohsuke.github.*;
 
 import java.io.IOException;
-import java.io.Reader;
 import java.util.List;
 import java.util.Objects;
 
-public class GitHubMissingFilesDetector {
+public class GitHubMissingFilesDetector implements FileRule {
 
-  private static final String GITHUB_ORG = ".github";
   private static final String BRANCH_PREFIX = "refs/heads/";
   private static final Logger LOG = new Logger();
-  private boolean isNotSync;
   private final FileReference reference;
   private final GitHub github;
   private final GHUser ghActor;
 
   public GitHubMissingFilesDetector(FileMeta fileMeta, String user) throws IOException {
+    this(fileMeta, GitHubProvider.getGithubToken(), user);
+  }
+
+  private GitHubMissingFilesDetector(FileMeta fileMeta, GitHub github, String user) throws IOException {
+    this(fileMeta, github, github.getUser(user));
+  }
+
+  /**
+   * @param actor the user the pull requests are assigned to
+   */
+  public GitHubMissingFilesDetector(FileMeta fileMeta, GitHub github, GHUser actor) throws IOException {
     Objects.requireNonNull(fileMeta);
     this.reference = new FileReference(fileMeta);
-    this.github = GitHubProvider.getGithubToken();
-    this.ghActor = github.getUser(user);
+    this.github = github;
+    this.ghActor = actor;
   }
 
   public int requireFile(List<String> orgNames) throws IOException {
-    Objects.requireNonNull(orgNames);
-    LOG.info("Working on organizations: {0}.", orgNames);
-    for (var orgName : orgNames) {
-      var org = github.getOrganization(orgName);
-      for (var repo : List.copyOf(org.getRepositories().values())) {
-        missingFile(repo);
-      }
-    }
-    if (isNotSync) {
-      LOG.error("At least one repository has no {0}.", reference.meta().filePath());
-      LOG.error("Add a {0} manually or run the build without DRYRUN to add {0} to the repository.",
-          reference.meta().filePath());
-      return 1;
-    }
-    return 0;
+    return new RepositorySweep(github, List.of(this), ghActor).run(orgNames);
   }
 
-  private void missingFile(GHRepository repo) throws IOException {
-    if (GITHUB_ORG.equals(repo.getName())) {
-      return;
+  @Override
+  public String path() {
+    return reference.meta().filePath();
+  }
+
+  @Override
+  public int summarize(List<RepoResult> results) {
+    var notSync = results.stream().filter(RepoResult::isNotSync).toList();
+    if (notSync.isEmpty()) {
+      return 0;
     }
+    LOG.error("{0} repositories have no {1}:", notSync.size(), path());
+    notSync.forEach(result -> LOG.error("  {0}", result));
+    LOG.error("Add a {0} manually or run the build without DRYRUN to add {0} to the repository.", path());
+    return 1;
+  }
+
+  @Override
+  public RepoResult apply(RepoTree tree, FileChanges changes) throws IOException {
+    var repo = tree.repo();
     if (repo.isFork()) {
-      return;
+      return RepoResult.inSync(repo.getFullName());
     }
-    if (repo.isPrivate() || repo.isArchived()) {
-      LOG.info("Repo {0} is {1}.", repo.getFullName(), repo.isPrivate() ? "private" : "archived");
-      return;
+
+    var path = path();
+    if (tree.isMissing(path)) {
+      return handleMissingFile(repo, changes);
+    }
+    var blobSha = tree.blobSha(path);
+    if (blobSha.isPresent() && isReferenceBlob(blobSha.get())) {
+      LOG.info("Repo {0} has {1}.", repo.getFullName(), path);
+      return RepoResult.inSync(repo.getFullName());
     }
 
-    var foundFile = getFileContent(reference.meta().filePath(), repo);
-    if (foundFile != null) {
-      if (hasSimilarContent(foundFile)) {
-        LOG.info("Repo {0} has {1}.", repo.getFullName(), foundFile.getName());
-      } else {
-        handleOtherContent(repo);
-      }
-    } else {
-      handleMissingFile(repo);
+    var foundFile = getFileContent(path, tree.ref(), repo);
+    if (foundFile == null) {
+      return handleMissingFile(repo, changes);
     }
+    if (hasSimilarContent(foundFile)) {
+      LOG.info("Repo {0} has {1}.", repo.getFullName(), foundFile.getName());
+      return RepoResult.inSync(repo.getFullName());
+    }
+    return handleOtherContent(repo, foundFile.getSha(), changes);
+  }
+
+  protected boolean isReferenceBlob(String blobSha) throws IOException {
+    return reference.blobShas().contains(blobSha);
   }
 
-  private GHContent getFileContent(String path, GHRepository repo) {
+  private GHContent getFileContent(String path, String ref, GHRepository repo) {
     try {
-      return repo.getFileContent(path);
+      return repo.getFileContent(path, ref);
     } catch (Exception e) {
       LOG.error("File {0} in repo {1} is not found.", path, repo.getFullName());
       return null;
@@ -81,127 +98,123 @@ public class GitHubMissingFilesDetector {
   }
 
   protected boolean hasSimilarContent(GHContent existingFile) throws IOException {
-    var fileContent = loadReferenceFileContent(existingFile.getGitUrl());
-    if (fileContent == null) {
-      return true;
-    }
-    Reader targetContent = new CharSequenceReader(new String(fileContent));
-    Reader actualContent;
-    try (var inputStream = existingFile.read()) {
-      actualContent = new CharSequenceReader(new String(inputStream.readAllBytes()));
-    }
-    return IOUtils.contentEqualsIgnoreEOL(targetContent, actualContent);
+    return reference.hasSimilarContent(existingFile);
   }
 
-  private void handleMissingFile(GHRepository repo) throws IOException {
+  private RepoResult handleMissingFile(GHRepository repo, FileChanges changes) throws IOException {
     try {
-      if (DryRun.is()) {
-        isNotSync = true;
+      if (DryRun.is() && !changes.isBatched()) {
         LOG.info("DRYRUN: ");
-      } else {
-        addMissingFile(repo);
+        LOG.info("Repo {0} has no {1}.", repo.getFullName(), path());
+        return RepoResult.outOfSync(repo.getFullName(), path() + " is missing");
       }
-      LOG.info("Repo {0} {1} synced.", repo.getFullName(), reference.meta().filePath());
+      var result = addMissingFile(repo, changes);
+      LOG.info("Repo {0} {1} synced.", repo.getFullName(), path());
+      return result;
     } catch (IOException ex) {
-      LOG.error("Cannot add {0} to repo {1}.", reference.meta().filePath(), repo.getFullName());
+      LOG.error("Cannot add {0} to repo {1}.", path(), repo.getFullName());
       throw ex;
     }
   }
 
-  private void addMissingFile(GHRepository repo) throws IOException {
+  private RepoResult addMissingFile(GHRepository repo, FileChanges changes) throws IOException {
     var fileContent = loadReferenceFileContent(repo.getUrl().toString());
     if (fileContent == null) {
-      return;
+      return RepoResult.inSync(repo.getFullName());
+    }
+    if (changes.isBatched()) {
+      changes.add(reference.meta(), fileContent);
+      return RepoResult.fixed(repo.getFullName(), "batched");
     }
     var defaultBranch = repo.getBranch(repo.getDefaultBranch());
     String refURL = createBranchIfMissing(repo, BRANCH_PREFIX + reference.meta().branchName(), defaultBranch.getSHA1());
     try {
       repo.createContent()
           .branch(refURL)
-          .path(reference.meta().filePath())
+          .path(path())
           .content(fileContent)
           .message(reference.meta().commitMessage())
           .commit();
     } catch (GHFileNotFoundException notFoundException) {
-      LOG.error("Commit new file {0} to repo failed due to lack of permissions", reference.meta().filePath());
-      isNotSync = true;
+      LOG.error("Commit new file {0} to repo failed due to lack of permissions", path());
+      return RepoResult.failed(repo.getFullName(), "commit of " + path() + " failed due to lack of permissions");
     } catch (HttpException e) {
-      LOG.error("Commit new file {0} to repo failed due to", e.getMessage());
-      isNotSync = true;
+      LOG.error("Commit new file {0} to repo failed due to {1}", path(), e.getMessage());
+      return RepoResult.failed(repo.getFullName(), "commit of " + path() + " failed: " + e.getMessage());
     }
-    createNewPullRequest(repo, refURL);
+    return createNewPullRequest(repo, refURL);
   }
 
-  private void createNewPullRequest(GHRepository repo, String refURL) throws IOException {
+  private RepoResult createNewPullRequest(GHRepository repo, String refURL) throws IOException {
     try {
       var pr = repo.createPullRequest(reference.meta().pullRequestTitle(), refURL, repo.getDefaultBranch(), "");
       if (ghActor != null) {
         pr.setAssignees(ghActor);
       }
+      return RepoResult.fixed(repo.getFullName(), "review the PR on " + pr.getHtmlUrl());
     } catch (HttpException e) {
       LOG.error("Create new pull request failed: {0}", e.getMessage());
-      isNotSync = true;
+      return RepoResult.failed(repo.getFullName(), "pull request failed: " + e.getMessage());
     }
   }
 
-  private String createBranchIfMissing(GHRepository repo, String branchName, String sha) {
-    String createdBranch = branchName;
-    var isBranchExisted = false;
+  /**
+   * @return the ref of the existing or new branch
+   * @throws IOException if the branch is missing and cannot be created
+   */
+  private String createBranchIfMissing(GHRepository repo, String branchName, String sha) throws IOException {
     try {
       var existedRef = repo.getRef(branchName);
       if (existedRef != null && existedRef.getRef().endsWith(branchName)) {
-        createdBranch = existedRef.getRef();
-        isBranchExisted = true;
+        return existedRef.getRef();
       }
     } catch (Exception exception) {
       LOG.error("Get branch {0} failed", branchName);
     }
-    if (!isBranchExisted) {
-      try {
-        createdBranch = repo.createRef(branchName, sha).getRef();
-      } catch (GHFileNotFoundException notFoundException) {
-        LOG.error("Create new ref {0} failed due to lack of permissions", branchName);
-        isNotSync = true;
-      } catch (HttpException e) {
-        LOG.error("Create new ref {0} failed: {1}", branchName, e.getMessage());
-        isNotSync = true;
-      } catch (Exception e) {
-        LOG.error("Create new ref {0} failed due to an unexpected error occurred: {1}", branchName, e.getMessage());
-        isNotSync = true;
-      }
+    try {
+      return repo.createRef(branchName, sha).getRef();
+    } catch (GHFileNotFoundException notFoundException) {
+      throw new IOException("Create new ref " + branchName + " failed due to lack of permissions", notFoundException);
+    } catch (HttpException e) {
+      throw new IOException("Create new ref " + branchName + " failed: " + e.getMessage(), e);
+    } catch (Exception e) {
+      throw new IOException("Create new ref " + branchName + " failed due to an unexpected error occurred: " + e.getMessage(), e);
     }
-    return createdBranch;
   }
 
-  private void handleOtherContent(GHRepository repo) throws IOException {
+  private RepoResult handleOtherContent(GHRepository repo, String blobSha, FileChanges changes) throws IOException {
     try {
-      if (DryRun.is()) {
-        isNotSync = true;
+      if (DryRun.is() && !changes.isBatched()) {
         LOG.info("DRYRUN: ");
         LOG.info("Repo {0} has {1} but the content is different from required file {2}.",
-            repo.getFullName(), reference.meta().filePath(), reference.meta().filePath());
-      } else {
-        updateFile(repo);
-        LOG.info("Repo {0} {1} synced.", repo.getFullName(), reference.meta().filePath());
+            repo.getFullName(), path(), path());
+        return RepoResult.outOfSync(repo.getFullName(), path() + " differs from the reference");
       }
+      var result = updateFile(repo, blobSha, changes);
+      LOG.info("Repo {0} {1} synced.", repo.getFullName(), path());
+      return result;
     } catch (IOException ex) {
-      LOG.error("Cannot update {1} in repo {0}.", repo.getFullName(), reference.meta().filePath());
+      LOG.error("Cannot update {1} in repo {0}.", repo.getFullName(), path());
       throw ex;
     }
   }
 
-  private void updateFile(GHRepository repo) throws IOException {
+  private RepoResult updateFile(GHRepository repo, String blobSha, FileChanges changes) throws IOException {
     var fileContent = loadReferenceFileContent(repo.getUrl().toString());
     if (fileContent == null) {
-      return;
+      return RepoResult.inSync(repo.getFullName());
+    }
+    if (changes.isBatched()) {
+      changes.update(reference.meta(), blobSha, fileContent);
+      return RepoResult.fixed(repo.getFullName(), "batched");
     }
     var headBranch = repo.getBranch(repo.getDefaultBranch());
     String refURL = createBranchIfMissing(repo, BRANCH_PREFIX + reference.meta().branchName(), headBranch.getSHA1());
-    repo.getFileContent(reference.meta().filePath(), refURL)
-        .update(loadReferenceFileContent(repo.getUrl().toString()),
+    repo.getFileContent(path(), refURL)
+        .update(fileContent,
             reference.meta().commitMessage(),
             refURL);
-    createNewPullRequest(repo, refURL);
+    return createNewPullRequest(repo, refURL);
   }
 
   protected byte[] loadReferenceFileContent(String repoURL) throws IOException {
@@ -0,0 +1,46 @@
+package com.axonivy.github.file;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The content of a reference file, loaded once and kept together with the git blob shas needed to recognize it
+ * in a repository.
+ */
+public final class ReferenceContent {
+
+  private final byte[] bytes;
+  private final Set<String> blobShas;
+
+  private ReferenceContent(byte[] bytes) {
+    this.bytes = bytes;
+    var normalized = GitBlob.toLf(bytes);
+    this.blobShas = Set.copyOf(List.of(GitBlob.sha(bytes), GitBlob.sha(normalized), GitBlob.sha(GitBlob.toCrLf(normalized))));
+  }
+
+  public static ReferenceContent of(byte[] bytes) {
+    return new ReferenceContent(bytes.clone());
+  }
+
+  public byte[] toByteArray() {
+    return bytes.clone();
+  }
+
+  /**
+   * @return the git blob shas of the content as it is, with LF and with CRLF line endings
+   */
+  public Set<String> blobShas() {
+    return blobShas;
+  }
+
+  /**
+   * @return the offset of the first byte in <code>actual</code> that differs from this content,
+   *         or {@link EolInsensitiveComparator#EQUAL}
+   */
+  public long firstDifference(InputStream actual) throws IOException {
+    return EolInsensitiveComparator.firstDifference(new ByteArrayInputStream(bytes), actual);
+  }
+}
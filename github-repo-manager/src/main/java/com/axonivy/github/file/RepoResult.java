@@ -0,0 +1,43 @@
+package com.axonivy.github.file;
+
+/**
+ * What a file rule found and did in one repository.
+ */
+record RepoResult(String repo, Status status, String reason) {
+
+  enum Status {
+    /** the repository already follows the rule */
+    IN_SYNC,
+    /** a pull request to follow the rule has been opened */
+    FIXED,
+    /** the repository does not follow the rule and nothing has been changed */
+    OUT_OF_SYNC,
+    /** the rule could not be checked or applied */
+    FAILED
+  }
+
+  static RepoResult inSync(String repo) {
+    return new RepoResult(repo, Status.IN_SYNC, "");
+  }
+
+  static RepoResult fixed(String repo, String reason) {
+    return new RepoResult(repo, Status.FIXED, reason);
+  }
+
+  static RepoResult outOfSync(String repo, String reason) {
+    return new RepoResult(repo, Status.OUT_OF_SYNC, reason);
+  }
+
+  static RepoResult failed(String repo, String reason) {
+    return new RepoResult(repo, Status.FAILED, reason);
+  }
+
+  boolean isNotSync() {
+    return status == Status.OUT_OF_SYNC || status == Status.FAILED;
+  }
+
+  @Override
+  public String toString() {
+    return repo + " " + status + (reason.isEmpty() ? "" : ": " + reason);
+  }
+}
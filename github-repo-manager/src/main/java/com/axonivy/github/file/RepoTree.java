@@ -0,0 +1,112 @@
+package com.axonivy.github.file;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.kohsuke.github.GHRepository;
+
+import com.axonivy.github.RepoMetadata;
+
+/**
+ * The blobs on the default branch of a repository, fetched with a single recursive tree request. With a pinned
+ * head the tree and all contents are read at that commit, so the rules see exactly what a plan records as observed.
+ * If the tree is not known (mode disabled, empty repository, truncated tree) every lookup is undecided
+ * and the rules have to ask the contents API. The blob shas are kept in the {@link RepoMetadata} until
+ * the repository is pushed again.
+ */
+public class RepoTree {
+
+  private static final Logger LOG = new Logger();
+  private final GHRepository repo;
+  private final String head;
+  private final Map<String, String> blobs;
+
+  private RepoTree(GHRepository repo, String head, Map<String, String> blobs) {
+    this.repo = repo;
+    this.head = head;
+    this.blobs = blobs;
+  }
+
+  public static boolean enabled() {
+    return Boolean.getBoolean("GITHUB.FILES.TREE");
+  }
+
+  /**
+   * @param head the commit to read files at, <code>null</code> for the default branch
+   */
+  public static RepoTree unknown(GHRepository repo, String head) {
+    return new RepoTree(repo, head, null);
+  }
+
+  /**
+   * @param head the commit to read the tree at, <code>null</code> for the default branch
+   * @param paths the files the rules look at, the tree does not know any other file
+   */
+  public static RepoTree load(GHRepository repo, String head, Set<String> paths) {
+    var known = RepoMetadata.get().files(repo, head, paths);
+    if (known.isPresent()) {
+      return new RepoTree(repo, head, existing(known.get()));
+    }
+    try {
+      var tree = repo.getTreeRecursive(head == null ? repo.getDefaultBranch() : head, 1);
+      if (tree.isTruncated()) {
+        LOG.info("Tree of repo {0} is truncated, falling back to the contents API.", repo.getFullName());
+        return unknown(repo, head);
+      }
+      var files = new HashMap<String, String>();
+      paths.forEach(path -> files.put(path, ""));
+      for (var entry : tree.getTree()) {
+        if ("blob".equals(entry.getType()) && paths.contains(entry.getPath())) {
+          files.put(entry.getPath(), entry.getSha());
+        }
+      }
+      RepoMetadata.get().files(repo, head, files);
+      return new RepoTree(repo, head, existing(files));
+    } catch (IOException ex) {
+      LOG.info("Cannot read tree of repo {0}: {1}", repo.getFullName(), ex.getMessage());
+      return unknown(repo, head);
+    }
+  }
+
+  private static Map<String, String> existing(Map<String, String> files) {
+    var blobs = new HashMap<String, String>();
+    files.forEach((path, sha) -> {
+      if (!sha.isEmpty()) {
+        blobs.put(path, sha);
+      }
+    });
+    return blobs;
+  }
+
+  public GHRepository repo() {
+    return repo;
+  }
+
+  /**
+   * @return the commit or branch to read file contents from
+   */
+  public String ref() {
+    return head == null ? repo.getDefaultBranch() : head;
+  }
+
+  public boolean isKnown() {
+    return blobs != null;
+  }
+
+  /**
+   * @return the blob sha of the file, empty if the file does not exist or the tree is not known
+   */
+  public Optional<String> blobSha(String path) {
+    if (blobs == null) {
+      return Optional.empty();
+    }
+    return Optional.ofNullable(blobs.get(path));
+  }
+
+  public boolean isMissing(String path) {
+    return blobs != null && !blobs.containsKey(path);
+  }
+}
@@ -0,0 +1,73 @@
+package com.axonivy.github.file;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Objects;
+
+import org.kohsuke.github.GHException;
+import org.kohsuke.github.GHRepository;
+import org.kohsuke.github.GitHub;
+import org.kohsuke.github.PagedIterator;
+
+import com.axonivy.github.RepoMetadata;
+
+/**
+ * Streams the public, active repositories of organizations page by page, so the first repository can be
+ * processed before the whole organization is listed and skipped repositories are never kept.
+ * Every listed repository refreshes its {@link RepoMetadata}.
+ */
+class RepositorySource {
+
+  private static final String GITHUB_ORG = ".github";
+  private static final int PAGE_SIZE = 100;
+  private static final Logger LOG = new Logger();
+  private final GitHub github;
+
+  RepositorySource(GitHub github) {
+    this.github = github;
+  }
+
+  void forEach(List<String> orgNames, RepoConsumer consumer) throws IOException {
+    Objects.requireNonNull(orgNames);
+    for (var orgName : orgNames) {
+      var pages = github.getOrganization(orgName).listRepositories(PAGE_SIZE).iterator();
+      while (hasNext(pages)) {
+        for (var repo : pages.nextPage()) {
+          RepoMetadata.get().record(repo);
+          if (accept(repo)) {
+            consumer.accept(repo);
+          }
+        }
+      }
+    }
+  }
+
+  private static boolean hasNext(PagedIterator<GHRepository> pages) throws IOException {
+    try {
+      return pages.hasNext();
+    } catch (GHException ex) {
+      if (ex.getCause() instanceof IOException ioEx) {
+        throw ioEx;
+      }
+      throw ex;
+    } catch (UncheckedIOException ex) {
+      throw ex.getCause();
+    }
+  }
+
+  private static boolean accept(GHRepository repo) {
+    if (GITHUB_ORG.equals(repo.getName())) {
+      return false;
+    }
+    if (repo.isPrivate() || repo.isArchived()) {
+      LOG.info("Repo {0} is {1}.", repo.getFullName(), repo.isPrivate() ? "private" : "archived");
+      return false;
+    }
+    return true;
+  }
+
+  interface RepoConsumer {
+    void accept(GHRepository repo) throws IOException;
+  }
+}
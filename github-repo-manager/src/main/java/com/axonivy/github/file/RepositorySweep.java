@@ -0,0 +1,171 @@
+package com.axonivy.github.file;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.stream.Collectors;
+
+import org.kohsuke.github.GHRepository;
+import org.kohsuke.github.GHUser;
+import org.kohsuke.github.GitHub;
+
+/**
+ * Lists every organization once and visits every repository once, applying all file rules to it.
+ * Repositories are visited on a pool of <code>GITHUB.FILES.THREADS</code> workers (default 1) as soon as their
+ * page of the listing arrives; the listing waits while all workers are busy. A failing
+ * repository is reported by the rules and does not stop the sweep. With {@link FileChanges#enabled() batched changes}
+ * the fixes of all rules end up in one pull request per repository, with a {@link ChangePlan} they are only recorded.
+ */
+public class RepositorySweep {
+
+  private static final Logger LOG = new Logger();
+  private final GitHub github;
+  private final List<FileRule> rules;
+  private final GHUser actor;
+  private final Optional<ChangePlan> plan;
+  private final Set<String> paths;
+
+  RepositorySweep(GitHub github, List<FileRule> rules, GHUser actor) {
+    this(github, rules, actor, Optional.empty());
+  }
+
+  /**
+   * @param plan records the changes of all repositories instead of pushing them
+   */
+  RepositorySweep(GitHub github, List<FileRule> rules, GHUser actor, Optional<ChangePlan> plan) {
+    this.github = github;
+    this.rules = List.copyOf(rules);
+    this.actor = actor;
+    this.plan = plan;
+    this.paths = this.rules.stream().map(FileRule::path).collect(Collectors.toSet());
+  }
+
+  public int run(List<String> orgNames) throws IOException {
+    Objects.requireNonNull(orgNames);
+    LOG.info("Working on organizations: {0}.", orgNames);
+    var threads = Math.max(1, threads());
+    var executor = Executors.newFixedThreadPool(threads);
+    var pending = new Semaphore(threads * 2);
+    try {
+      var visits = new ArrayList<Future<List<RepoResult>>>();
+      new RepositorySource(github).forEach(orgNames, repo -> {
+        acquire(pending);
+        visits.add(executor.submit(() -> {
+          try {
+            return visit(repo);
+          } finally {
+            pending.release();
+          }
+        }));
+      });
+      var results = new ArrayList<List<RepoResult>>();
+      for (int i = 0; i < rules.size(); i++) {
+        results.add(new ArrayList<>());
+      }
+      for (var visit : visits) {
+        var repoResults = await(visit);
+        for (int i = 0; i < repoResults.size(); i++) {
+          results.get(i).add(repoResults.get(i));
+        }
+      }
+      var status = 0;
+      for (int i = 0; i < rules.size(); i++) {
+        var ruleStatus = rules.get(i).summarize(results.get(i));
+        status = ruleStatus != 0 ? ruleStatus : status;
+      }
+      return status;
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  /**
+   * @return one result per rule
+   */
+  private List<RepoResult> visit(GHRepository repo) {
+    var changes = FileChanges.create(plan.isPresent());
+    String head = null;
+    if (changes.isBatched()) {
+      // pinned before anything is read, a push in between must fail the optimistic check of the commit or plan
+      try {
+        head = repo.getBranch(repo.getDefaultBranch()).getSHA1();
+      } catch (IOException ex) {
+        LOG.error("Cannot read the head of repo {0}: {1}", repo.getFullName(), ex.getMessage());
+        var failed = RepoResult.failed(repo.getFullName(), "head not readable: " + ex.getMessage());
+        return rules.stream().map(rule -> failed).toList();
+      }
+    }
+    var tree = RepoTree.enabled() ? RepoTree.load(repo, head, paths) : RepoTree.unknown(repo, head);
+    var results = new ArrayList<RepoResult>();
+    for (var rule : rules) {
+      results.add(apply(rule, tree, changes));
+    }
+    if (!changes.isEmpty()) {
+      var result = commit(repo, head, changes);
+      for (int i = 0; i < rules.size(); i++) {
+        if (changes.contains(rules.get(i).path())) {
+          results.set(i, result);
+        }
+      }
+    }
+    return results;
+  }
+
+  /**
+   * @param head the head of the default branch the rules have read
+   */
+  private RepoResult commit(GHRepository repo, String head, FileChanges changes) {
+    try {
+      if (plan.isPresent()) {
+        plan.get().add(repo.getFullName(), head, changes);
+        return RepoResult.outOfSync(repo.getFullName(), "planned " + changes);
+      }
+      var prUrl = changes.commit(repo, head, actor);
+      return RepoResult.fixed(repo.getFullName(), "review the PR on " + prUrl);
+    } catch (Exception ex) {
+      LOG.error("Cannot push the batched changes to repo {0}: {1}", repo.getFullName(), ex.getMessage());
+      return RepoResult.failed(repo.getFullName(), "batched changes failed: " + ex.getMessage());
+    }
+  }
+
+  private static RepoResult apply(FileRule rule, RepoTree tree, FileChanges changes) {
+    var repo = tree.repo().getFullName();
+    try {
+      return rule.apply(tree, changes);
+    } catch (Exception ex) {
+      LOG.error("Cannot apply rule for {0} to repo {1}: {2}", rule.path(), repo, ex.getMessage());
+      return RepoResult.failed(repo, String.valueOf(ex.getMessage()));
+    }
+  }
+
+  private static void acquire(Semaphore pending) throws IOException {
+    try {
+      pending.acquire();
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Sweep interrupted", ex);
+    }
+  }
+
+  private static List<RepoResult> await(Future<List<RepoResult>> visit) throws IOException {
+    try {
+      return visit.get();
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Sweep interrupted", ex);
+    } catch (ExecutionException ex) {
+      throw new RuntimeException(ex.getCause());
+    }
+  }
+
+  private static int threads() {
+    return Integer.getInteger("GITHUB.FILES.THREADS", 1);
+  }
+}
@@ -0,0 +1,98 @@
+package com.axonivy.github.file;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Finds the longest of a fixed set of words that is contained in a text with a single pass over the text
+ * (Aho-Corasick automaton), however many words there are. Words of the same length are ranked alphabetically.
+ * Compiled once and immutable afterwards, so it is safe to share between workers.
+ */
+class SubstringMatcher {
+
+  private static final Comparator<String> PRECEDENCE = Comparator.comparingInt(String::length).reversed()
+      .thenComparing(Comparator.naturalOrder());
+
+  private final List<Map<Character, Integer>> transitions;
+  private final int[] fallbacks;
+  private final String[] longestEnding;
+
+  SubstringMatcher(Collection<String> words) {
+    var next = new ArrayList<Map<Character, Integer>>();
+    var ends = new ArrayList<String>();
+    next.add(new HashMap<>());
+    ends.add(null);
+    for (var word : words) {
+      var state = 0;
+      for (var c : word.toCharArray()) {
+        var target = next.get(state).get(c);
+        if (target == null) {
+          target = next.size();
+          next.get(state).put(c, target);
+          next.add(new HashMap<>());
+          ends.add(null);
+        }
+        state = target;
+      }
+      ends.set(state, word);
+    }
+    this.transitions = next.stream().map(Map::copyOf).toList();
+    this.fallbacks = new int[next.size()];
+    this.longestEnding = new String[next.size()];
+    // breadth first, so the fallback of a state is complete before its children need it
+    var queue = new ArrayDeque<Integer>();
+    queue.add(0);
+    while (!queue.isEmpty()) {
+      var state = queue.poll();
+      for (var transition : transitions.get(state).entrySet()) {
+        var child = transition.getValue();
+        var fallback = state == 0 ? 0 : step(fallbacks[state], transition.getKey());
+        fallbacks[child] = fallback;
+        longestEnding[child] = better(ends.get(child), longestEnding[fallback]);
+        queue.add(child);
+      }
+    }
+  }
+
+  /**
+   * @return the longest word contained in the text
+   */
+  Optional<String> longestIn(String text) {
+    String found = null;
+    var state = 0;
+    for (var i = 0; i < text.length(); i++) {
+      state = step(state, text.charAt(i));
+      found = better(found, longestEnding[state]);
+    }
+    return Optional.ofNullable(found);
+  }
+
+  private int step(int state, char c) {
+    while (true) {
+      var target = transitions.get(state).get(c);
+      if (target != null) {
+        return target;
+      }
+      if (state == 0) {
+        return 0;
+      }
+      state = fallbacks[state];
+    }
+  }
+
+  private static String better(String a, String b) {
+    if (a == null) {
+      return b;
+    }
+    if (b == null) {
+      return a;
+    }
+    return PRECEDENCE.compare(a, b) <= 0 ? a : b;
+  }
+}
@@ -0,0 +1,64 @@
+package com.axonivy.github.scan;
+
+import java.io.IOException;
+import java.io.Writer;
+
+class HtmlReportWriter implements ReportWriter {
+
+  private final Writer out;
+
+  HtmlReportWriter(Writer out) {
+    this.out = out;
+  }
+
+  @Override
+  public void message(String repo, String message) throws IOException {
+    if (repo != null) {
+      out.write("<b>" + repo + "</b>: ");
+    }
+    out.write(message);
+    out.write("<br />");
+  }
+
+  @Override
+  public void report(IssueReport report) throws IOException {
+    message(null, "");
+    message(null, "");
+    message(null, "<b>Issues Report</b>");
+    if (report.rows().isEmpty()) {
+      message(null, "Found no issues since tag " + report.tag());
+      return;
+    }
+    message(null, "Found " + report.rows().size() + " issues since tag " + report.tag());
+    message(null, "--------------------------------------------------");
+    out.write("<table>");
+    out.write("<thead><tr><td>Issue</td><td>Log</td><td>Release Notes</td></tr></thead>");
+    out.write("<tbody>");
+    for (var row : report.rows()) {
+      out.write("<tr>");
+      out.write("<td><a target=\"_blank\" href=\"" + row.url() + "\">" + row.issue() + "</a></td>");
+      printContains("Log", row.inLog());
+      printContains("Release Notes", row.inReleaseNotes());
+      out.write("</tr>");
+    }
+    out.write("</tbody>");
+    out.write("</table>");
+  }
+
+  private void printContains(String kind, boolean contains) throws IOException {
+    out.write("<td>");
+    if (contains) {
+      out.write("<span style=\"color: green;\">");
+      out.write(kind + " &#x2713;");
+    } else {
+      out.write("<span style=\"color: red;\">");
+      out.write(kind + " &#x2715;");
+    }
+    out.write("<span></td>");
+  }
+
+  @Override
+  public void close() throws IOException {
+    out.close();
+  }
+}
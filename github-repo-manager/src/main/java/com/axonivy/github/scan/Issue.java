@@ -1,20 +1,15 @@
 package com.axonivy.github.scan;
 
-import java.util.Comparator;
 import java.util.Objects;
-import java.util.regex.MatchResult;
-import java.util.regex.Pattern;
 import java.util.stream.Stream;
 
-import org.apache.commons.lang3.builder.HashCodeBuilder;
-
 public class Issue implements Comparable<Issue> {
 
-  private static final Comparator<Issue> ASC = Comparator.comparing(Issue::project).thenComparing(Issue::number);
+  /** known projects, upper case and sorted so that packed issue keys sort like issues */
+  static final String[] PROJECTS = {"XIVY"};
 
   private final String project;
   private final int number;
-  private static final Pattern PATTERN = Pattern.compile("(XIVY)\\-([0-9]+)");
 
   public Issue(String project, int number) {
     this.project = project;
@@ -22,14 +17,18 @@ public class Issue implements Comparable<Issue> {
   }
 
   public static final Stream<Issue> fromString(String issue) {
-    var matcher = PATTERN.matcher(issue.toUpperCase());
-    return matcher.results().map(Issue::fromMatchResult);
+    var builder = Stream.<Issue>builder();
+    IssueKeyScanner.scan(issue, key -> builder.add(IssueSet.issue(key)));
+    return builder.build();
   }
 
-  private static Issue fromMatchResult(MatchResult result) {
-    var project = result.group(1);
-    var number = Integer.parseInt(result.group(2));
-    return new Issue(project, number);
+  static int projectId(String project) {
+    for (var i = 0; i < PROJECTS.length; i++) {
+      if (PROJECTS[i].equals(project)) {
+        return i;
+      }
+    }
+    return -1;
   }
 
   public String project() {
@@ -40,6 +39,17 @@ public class Issue implements Comparable<Issue> {
     return number;
   }
 
+  /**
+   * @return the packed key as used by {@link IssueSet}
+   */
+  public long key() {
+    var projectId = projectId(project);
+    if (projectId < 0) {
+      throw new IllegalArgumentException("Unknown project " + project);
+    }
+    return IssueSet.key(projectId, number);
+  }
+
   @Override
   public String toString() {
     return project+"-"+number;
@@ -60,14 +70,12 @@ public class Issue implements Comparable<Issue> {
 
   @Override
   public int hashCode() {
-    return new HashCodeBuilder()
-        .append(number)
-        .append(project)
-        .toHashCode();
+    return 31 * Objects.hashCode(project) + number;
   }
 
   @Override
   public int compareTo(Issue other) {
-    return ASC.compare(this, other);
+    var result = project.compareTo(other.project);
+    return result != 0 ? result : Integer.compare(number, other.number);
   }
 }
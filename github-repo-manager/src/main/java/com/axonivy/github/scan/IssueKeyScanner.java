@@ -0,0 +1,63 @@
+package com.axonivy.github.scan;
+
+import java.util.function.LongConsumer;
+
+/**
+ * Finds issue keys like <code>XIVY-123</code> in a text, ignoring the case of the project.
+ * Every hit is emitted as packed key (see {@link IssueSet#key(int, int)}) without creating strings or objects.
+ */
+public final class IssueKeyScanner {
+
+  private IssueKeyScanner() {}
+
+  public static void scan(CharSequence text, LongConsumer keys) {
+    var length = text.length();
+    var i = 0;
+    while (i < length) {
+      var next = match(text, i, keys);
+      i = next > i ? next : i + 1;
+    }
+  }
+
+  /**
+   * @return the index after the match or <code>start</code> if there is no issue key at <code>start</code>
+   */
+  private static int match(CharSequence text, int start, LongConsumer keys) {
+    for (var projectId = 0; projectId < Issue.PROJECTS.length; projectId++) {
+      var project = Issue.PROJECTS[projectId];
+      var dash = start + project.length();
+      if (dash + 1 >= text.length() || text.charAt(dash) != '-' || !isDigit(text.charAt(dash + 1))) {
+        continue;
+      }
+      if (!matchesIgnoreCase(text, start, project)) {
+        continue;
+      }
+      var end = dash + 1;
+      long number = 0;
+      while (end < text.length() && isDigit(text.charAt(end))) {
+        if (number <= Integer.MAX_VALUE) {
+          number = number * 10 + (text.charAt(end) - '0');
+        }
+        end++;
+      }
+      if (number <= Integer.MAX_VALUE) {
+        keys.accept(IssueSet.key(projectId, (int) number));
+      }
+      return end;
+    }
+    return start;
+  }
+
+  private static boolean matchesIgnoreCase(CharSequence text, int start, String project) {
+    for (var i = 0; i < project.length(); i++) {
+      if (Character.toUpperCase(text.charAt(start + i)) != project.charAt(i)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean isDigit(char c) {
+    return c >= '0' && c <= '9';
+  }
+}
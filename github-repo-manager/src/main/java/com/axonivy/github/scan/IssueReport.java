@@ -0,0 +1,42 @@
+package com.axonivy.github.scan;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * All issues found since a tag and where they have been found.
+ */
+public record IssueReport(String tag, List<Row> rows) {
+
+  static final String ISSUE_URL = "https://1ivy.atlassian.net/browse/";
+
+  public static IssueReport of(String tag, Set<Issue> logIssues, Set<Issue> rnIssues) {
+    var rows = Stream.concat(logIssues.stream(), rnIssues.stream())
+        .distinct()
+        .sorted()
+        .map(issue -> new Row(issue, logIssues.contains(issue), rnIssues.contains(issue)))
+        .collect(Collectors.toList());
+    return new IssueReport(tag, rows);
+  }
+
+  public static IssueReport of(String tag, IssueSet logIssues, IssueSet rnIssues) {
+    var all = new IssueSet(logIssues.size() + rnIssues.size());
+    all.addAll(logIssues);
+    all.addAll(rnIssues);
+    var rows = new ArrayList<Row>(all.size());
+    for (var key : all.sortedKeys()) {
+      rows.add(new Row(IssueSet.issue(key), logIssues.contains(key), rnIssues.contains(key)));
+    }
+    return new IssueReport(tag, rows);
+  }
+
+  public record Row(Issue issue, boolean inLog, boolean inReleaseNotes) {
+
+    public String url() {
+      return ISSUE_URL + issue;
+    }
+  }
+}
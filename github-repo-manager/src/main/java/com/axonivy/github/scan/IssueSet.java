@@ -0,0 +1,165 @@
+package com.axonivy.github.scan;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Set of issues of the known {@link Issue#PROJECTS}, stored as primitive <code>long</code> keys
+ * in an open addressing hash table. Not thread-safe.
+ */
+public final class IssueSet implements Iterable<Issue> {
+
+  private static final long EMPTY = -1L;
+  private static final int MIN_CAPACITY = 16;
+
+  private long[] table;
+  private int size;
+
+  public IssueSet() {
+    this(MIN_CAPACITY);
+  }
+
+  public IssueSet(int expectedSize) {
+    table = newTable(capacityFor(expectedSize));
+  }
+
+  public static IssueSet of(Iterable<Issue> issues) {
+    var set = new IssueSet();
+    issues.forEach(set::add);
+    return set;
+  }
+
+  public static IssueSet scan(CharSequence text) {
+    var set = new IssueSet();
+    set.addAll(text);
+    return set;
+  }
+
+  /**
+   * Packs project and number into one key. Keys sort like {@link Issue#compareTo(Issue)}.
+   */
+  public static long key(int projectId, int number) {
+    return ((long) projectId << 32) | (number & 0xFFFFFFFFL);
+  }
+
+  public static Issue issue(long key) {
+    return new Issue(Issue.PROJECTS[(int) (key >>> 32)], (int) key);
+  }
+
+  public boolean add(Issue issue) {
+    return add(issue.key());
+  }
+
+  public boolean add(long key) {
+    var index = indexOf(table, key);
+    if (table[index] == key) {
+      return false;
+    }
+    table[index] = key;
+    size++;
+    if (size * 2 > table.length) {
+      rehash(table.length * 2);
+    }
+    return true;
+  }
+
+  /**
+   * Adds all issue keys found in the text.
+   */
+  public void addAll(CharSequence text) {
+    IssueKeyScanner.scan(text, this::add);
+  }
+
+  public void addAll(IssueSet other) {
+    for (var key : other.table) {
+      if (key != EMPTY) {
+        add(key);
+      }
+    }
+  }
+
+  public boolean contains(Issue issue) {
+    var projectId = Issue.projectId(issue.project());
+    return projectId >= 0 && contains(key(projectId, issue.number()));
+  }
+
+  public boolean contains(long key) {
+    return table[indexOf(table, key)] == key;
+  }
+
+  public int size() {
+    return size;
+  }
+
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  public long[] sortedKeys() {
+    var keys = new long[size];
+    var i = 0;
+    for (var key : table) {
+      if (key != EMPTY) {
+        keys[i++] = key;
+      }
+    }
+    Arrays.sort(keys);
+    return keys;
+  }
+
+  /**
+   * @return the issues in ascending order
+   */
+  public Stream<Issue> stream() {
+    return Arrays.stream(sortedKeys()).mapToObj(IssueSet::issue);
+  }
+
+  @Override
+  public Iterator<Issue> iterator() {
+    return stream().iterator();
+  }
+
+  @Override
+  public String toString() {
+    return Arrays.toString(stream().toArray());
+  }
+
+  private void rehash(int capacity) {
+    var newTable = newTable(capacity);
+    for (var key : table) {
+      if (key != EMPTY) {
+        newTable[indexOf(newTable, key)] = key;
+      }
+    }
+    table = newTable;
+  }
+
+  private static int indexOf(long[] table, long key) {
+    var mask = table.length - 1;
+    var index = mix(key) & mask;
+    while (table[index] != EMPTY && table[index] != key) {
+      index = (index + 1) & mask;
+    }
+    return index;
+  }
+
+  private static int mix(long key) {
+    var h = key * 0x9E3779B97F4A7C15L;
+    return (int) (h ^ (h >>> 32));
+  }
+
+  private static int capacityFor(int expectedSize) {
+    var capacity = MIN_CAPACITY;
+    while (capacity < expectedSize * 2) {
+      capacity <<= 1;
+    }
+    return capacity;
+  }
+
+  private static long[] newTable(int capacity) {
+    var table = new long[capacity];
+    Arrays.fill(table, EMPTY);
+    return table;
+  }
+}
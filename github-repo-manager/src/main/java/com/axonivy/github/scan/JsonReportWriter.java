@@ -0,0 +1,64 @@
+package com.axonivy.github.scan;
+
+import java.io.IOException;
+import java.io.Writer;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+/**
+ * Streams <code>{"messages": [...], "tag": ..., "issues": [...]}</code>.
+ */
+class JsonReportWriter implements ReportWriter {
+
+  private final JsonGenerator json;
+  private boolean inMessages;
+
+  JsonReportWriter(Writer out) throws IOException {
+    this.json = new JsonFactory().createGenerator(out);
+    json.writeStartObject();
+    json.writeArrayFieldStart("messages");
+    inMessages = true;
+  }
+
+  @Override
+  public void message(String repo, String message) throws IOException {
+    if (!inMessages) {
+      throw new IllegalStateException("Messages must be written before the report");
+    }
+    json.writeStartObject();
+    json.writeStringField("repo", repo);
+    json.writeStringField("message", message);
+    json.writeEndObject();
+  }
+
+  @Override
+  public void report(IssueReport report) throws IOException {
+    endMessages();
+    json.writeStringField("tag", report.tag());
+    json.writeArrayFieldStart("issues");
+    for (var row : report.rows()) {
+      json.writeStartObject();
+      json.writeStringField("issue", row.issue().toString());
+      json.writeStringField("url", row.url());
+      json.writeBooleanField("log", row.inLog());
+      json.writeBooleanField("releaseNotes", row.inReleaseNotes());
+      json.writeEndObject();
+    }
+    json.writeEndArray();
+  }
+
+  private void endMessages() throws IOException {
+    if (inMessages) {
+      json.writeEndArray();
+      inMessages = false;
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    endMessages();
+    json.writeEndObject();
+    json.close();
+  }
+}
@@ -0,0 +1,51 @@
+package com.axonivy.github.scan;
+
+import java.io.IOException;
+import java.io.Writer;
+
+class MarkdownReportWriter implements ReportWriter {
+
+  private final Writer out;
+
+  MarkdownReportWriter(Writer out) {
+    this.out = out;
+  }
+
+  @Override
+  public void message(String repo, String message) throws IOException {
+    out.write("- ");
+    if (repo != null) {
+      out.write("**" + repo + "**: ");
+    }
+    out.write(message);
+    out.write('\n');
+  }
+
+  @Override
+  public void report(IssueReport report) throws IOException {
+    out.write("\n## Issues Report\n\n");
+    if (report.rows().isEmpty()) {
+      out.write("Found no issues since tag " + report.tag() + "\n");
+      return;
+    }
+    out.write("Found " + report.rows().size() + " issues since tag " + report.tag() + "\n\n");
+    out.write("| Issue | Log | Release Notes |\n");
+    out.write("| --- | --- | --- |\n");
+    for (var row : report.rows()) {
+      out.write("| [" + row.issue() + "](" + row.url() + ") | ");
+      out.write(mark(row.inLog()));
+      out.write(" | ");
+      out.write(mark(row.inReleaseNotes()));
+      out.write(" |\n");
+    }
+  }
+
+  private static String mark(boolean contains) {
+    return contains ? "✓" : "✕";
+  }
+
+  @Override
+  public void close() throws IOException {
+    out.close();
+  }
+}
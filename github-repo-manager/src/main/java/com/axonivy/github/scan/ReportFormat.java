@@ -0,0 +1,57 @@
+package com.axonivy.github.scan;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.apache.commons.lang3.StringUtils;
+
+public enum ReportFormat {
+
+  HTML(StandardOpenOption.APPEND) {
+    @Override
+    ReportWriter open(Writer out) {
+      return new HtmlReportWriter(out);
+    }
+  },
+  MARKDOWN(StandardOpenOption.APPEND) {
+    @Override
+    ReportWriter open(Writer out) {
+      return new MarkdownReportWriter(out);
+    }
+  },
+  JSON(StandardOpenOption.TRUNCATE_EXISTING) {
+    @Override
+    ReportWriter open(Writer out) throws IOException {
+      return new JsonReportWriter(out);
+    }
+  };
+
+  private final StandardOpenOption mode;
+
+  ReportFormat(StandardOpenOption mode) {
+    this.mode = mode;
+  }
+
+  abstract ReportWriter open(Writer out) throws IOException;
+
+  /**
+   * How an existing report file is treated: streaming text formats append, JSON starts over.
+   */
+  StandardOpenOption mode() {
+    return mode;
+  }
+
+  public static ReportFormat of(Path path) {
+    var extension = StringUtils.substringAfterLast(path.getFileName().toString(), ".").toLowerCase();
+    switch (extension) {
+      case "md":
+        return MARKDOWN;
+      case "json":
+        return JSON;
+      default:
+        return HTML;
+    }
+  }
+}
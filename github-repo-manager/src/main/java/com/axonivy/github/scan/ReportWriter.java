@@ -0,0 +1,17 @@
+package com.axonivy.github.scan;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Renders the messages of a scan and the final {@link IssueReport} in one output format.
+ */
+public interface ReportWriter extends Closeable {
+
+  /**
+   * @param repo full name of the repository the message belongs to or <code>null</code>
+   */
+  void message(String repo, String message) throws IOException;
+
+  void report(IssueReport report) throws IOException;
+}
@@ -1,22 +1,58 @@
 package com.axonivy.github.scan;
 
+import java.io.Closeable;
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import org.kohsuke.github.GHRepository;
 
-public class ScanIssueReporter {
+/**
+ * Writes the scan progress and the final issue report to one or more files.
+ * The files are opened once and kept open until the reporter is closed.
+ */
+public class ScanIssueReporter implements Closeable {
 
-  private final Path path;
+  private final List<ReportWriter> writers = new ArrayList<>();
   private GHRepository repo;
 
-  public ScanIssueReporter(Path path) {
-    this.path = path;
+  public ScanIssueReporter(Path... paths) {
+    try {
+      for (var path : paths) {
+        writers.add(open(path));
+      }
+    } catch (IOException ex) {
+      closeQuietly(writers, ex);
+      throw new UncheckedIOException(ex);
+    }
+  }
+
+  private static ReportWriter open(Path path) throws IOException {
+    var format = ReportFormat.of(path);
+    var out = Files.newBufferedWriter(path, StandardCharsets.UTF_8,
+        StandardOpenOption.CREATE, StandardOpenOption.WRITE, format.mode());
+    try {
+      return format.open(out);
+    } catch (IOException ex) {
+      closeQuietly(List.of(out), ex);
+      throw ex;
+    }
+  }
+
+  private static void closeQuietly(List<? extends Closeable> opened, IOException failure) {
+    for (var closeable : opened) {
+      try {
+        closeable.close();
+      } catch (IOException ex) {
+        failure.addSuppressed(ex);
+      }
+    }
   }
 
   public void setRepo(GHRepository repo) {
@@ -24,61 +60,47 @@ public class ScanIssueReporter {
   }
 
   public void print(String message) {
-      var msg = repo == null ? message : "<b>" + repo.getFullName() + "</b>: " + message;
-      msg = msg + "<br />";
-      printHtml(msg);
-  }
-
-  private void printHtml(String msg) {
+    var repoName = repo == null ? null : repo.getFullName();
     try {
-      if (!Files.exists(path)) {
-        Files.createFile(path);
+      for (var writer : writers) {
+        writer.message(repoName, message);
       }
-      Files.writeString(path, msg, StandardOpenOption.APPEND);
     } catch (IOException ex) {
       throw new RuntimeException(ex);
     }
   }
 
   public void report(String tag, Set<Issue> logIssues, Set<Issue> rnIssues) {
-    repo = null;
+    report(IssueReport.of(tag, logIssues, rnIssues));
+  }
+
+  public void report(String tag, IssueSet logIssues, IssueSet rnIssues) {
+    report(IssueReport.of(tag, logIssues, rnIssues));
+  }
 
-    var sortedIssues = Stream.concat(logIssues.stream(), rnIssues.stream())
-            .distinct()
-            .sorted()
-            .collect(Collectors.toList());
-    print("");
-    print("");
-    print("<b>Issues Report</b>");
-    if (sortedIssues.isEmpty()) {
-      print("Found no issues since tag " + tag);
-    } else {
-      print("Found " + sortedIssues.size() + " issues since tag " + tag);
-      print("--------------------------------------------------");
-      printHtml("<table>");
-      printHtml("<thead><tr><td>Issue</td><td>Log</td><td>Release Notes</td></tr></thead>");
-      printHtml("<tbody>");
-      for (var issue : sortedIssues) {
-        printHtml("<tr>");
-        printHtml("<td><a target=\"_blank\" href=\"https://1ivy.atlassian.net/browse/" + issue + "\">" + issue + "</a></td>");
-        printContains("Log", logIssues, issue);
-        printContains("Release Notes", rnIssues, issue);
-        printHtml("</tr>");
+  private void report(IssueReport report) {
+    repo = null;
+    try {
+      for (var writer : writers) {
+        writer.report(report);
       }
-      printHtml("</tbody>");
-      printHtml("</table>");
+    } catch (IOException ex) {
+      throw new RuntimeException(ex);
     }
   }
 
-  private void printContains(String kind, Set<Issue> logIssues, Issue issue) {
-    printHtml("<td>");
-    if (logIssues.contains(issue)) {
-      printHtml("<span style=\"color: green;\">");
-      printHtml(kind + " &#x2713;");
-    } else {
-      printHtml("<span style=\"color: red;\">");
-      printHtml(kind +" &#x2715;");
+  @Override
+  public void close() throws IOException {
+    IOException failure = null;
+    for (var writer : writers) {
+      try {
+        writer.close();
+      } catch (IOException ex) {
+        failure = ex;
+      }
+    }
+    if (failure != null) {
+      throw failure;
     }
-    printHtml("<span></td>");
   }
 }
@@ -0,0 +1,81 @@
+package com.axonivy.github.scan;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Remembers per repository and branch up to which commit the issues have been scanned.
+ */
+public class ScanState {
+
+  private static final TypeReference<TreeMap<String, Cursor>> CURSORS_TYPE_REFERENCE = new TypeReference<>() {
+  };
+  private static final ObjectMapper objectMapper = new ObjectMapper();
+
+  private final Path file;
+  private final Map<String, Cursor> cursors;
+
+  private ScanState(Path file, Map<String, Cursor> cursors) {
+    this.file = file;
+    this.cursors = cursors;
+  }
+
+  public static ScanState load(Path file) throws IOException {
+    if (!Files.exists(file)) {
+      return new ScanState(file, new TreeMap<>());
+    }
+    return new ScanState(file, objectMapper.readValue(file.toFile(), CURSORS_TYPE_REFERENCE));
+  }
+
+  public Optional<Cursor> cursor(String repo, String branch) {
+    return Optional.ofNullable(cursors.get(key(repo, branch)));
+  }
+
+  public void update(String repo, String branch, Cursor cursor) {
+    if (cursor == null) {
+      cursors.remove(key(repo, branch));
+    } else {
+      cursors.put(key(repo, branch), cursor);
+    }
+  }
+
+  public void save() throws IOException {
+    objectMapper.writeValue(file.toFile(), cursors);
+  }
+
+  private static String key(String repo, String branch) {
+    return repo + "@" + branch;
+  }
+
+  /**
+   * @param tag the tag the scan started from
+   * @param tagSha the commit the tag pointed to
+   * @param headSha the last commit of the branch that has been scanned
+   * @param issues all issues found between tag and head
+   */
+  public record Cursor(String tag, String tagSha, String headSha, Set<String> issues) {
+
+    public static Cursor of(String tag, String tagSha, String headSha, IssueSet issues) {
+      var keys = issues.stream()
+          .map(Issue::toString)
+          .collect(Collectors.toCollection(LinkedHashSet::new));
+      return new Cursor(tag, tagSha, headSha, keys);
+    }
+
+    public IssueSet toIssues() {
+      var set = new IssueSet(issues.size());
+      issues.forEach(set::addAll);
+      return set;
+    }
+  }
+}
@@ -0,0 +1,29 @@
+package com.axonivy.github;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class TestGitHubProvider {
+
+  @AfterEach
+  void reset() {
+    System.clearProperty("GITHUB.CONNECTOR");
+    System.clearProperty("GITHUB.FIXTURES");
+  }
+
+  @Test
+  void rebuildOnConnectorChange(@TempDir Path first, @TempDir Path second) {
+    System.setProperty("GITHUB.CONNECTOR", "replay");
+    System.setProperty("GITHUB.FIXTURES", first.toString());
+    var github = GitHubProvider.get();
+    assertThat(GitHubProvider.get()).isSameAs(github);
+
+    System.setProperty("GITHUB.FIXTURES", second.toString());
+    assertThat(GitHubProvider.get()).isNotSameAs(github);
+  }
+}
@@ -1,14 +1,27 @@
 package com.axonivy.github;
 
-import java.io.IOException;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Path;
+import java.time.Duration;
 
 import org.junit.jupiter.api.Test;
+import org.kohsuke.github.GitHubBuilder;
+
+import com.axonivy.github.ReleaseResult.Status;
+import com.axonivy.github.connector.ReplayConnector;
 
 class TestGitHubRepoTagger {
 
   @Test
-  void run() throws IOException {
-    var repo = GitHubProvider.get().getRepository("axonivy/github-repo-manager");
-    new GitHubRepoTagger.Tagger(repo, true, "master", "v9.4.5").run();
+  void run() throws Exception {
+    var fixtures = Path.of(getClass().getResource("tagger").toURI());
+    var github = new GitHubBuilder().withConnector(new ReplayConnector(fixtures, Duration.ZERO)).build();
+    var repo = github.getRepository("axonivy/github-repo-manager");
+
+    var result = new GitHubRepoTagger.Tagger(repo, true, "master", "v9.4.5").run();
+
+    assertThat(result.status()).isEqualTo(Status.DRYRUN);
+    assertThat(RefResolver.get().branch(repo, "master")).contains("6e98290e0c1d3b1b8d8d5a6f0b1c2d3e4f5a6b7c");
   }
 }
@@ -0,0 +1,95 @@
+package com.axonivy.github;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.UncheckedIOException;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.axonivy.github.GitHubRunner.Command;
+
+class TestGitHubRunner {
+
+  @Test
+  void parse() {
+    var command = Command.parse("  -DDRY_RUN=false -DGITHUB.RELEASE.THREADS=8 scan-issues 12.0.1 - notes.txt report.html");
+
+    assertThat(command.properties()).containsExactly(Map.entry("DRY_RUN", "false"), Map.entry("GITHUB.RELEASE.THREADS", "8"));
+    assertThat(command.name()).isEqualTo("scan-issues");
+    assertThat(command.args()).containsExactly("12.0.1", "", "notes.txt", "report.html");
+  }
+
+  @Test
+  void missingArgument() {
+    var command = new Command(Map.of(), "branch", List.of());
+    assertThatThrownBy(() -> command.arg(0)).hasMessageContaining("misses argument 1");
+    assertThatThrownBy(() -> Command.parse("-DDRY_RUN=false")).hasMessageContaining("No command");
+  }
+
+  @Test
+  void propertiesOnlyApplyToTheirCommand() {
+    System.clearProperty("DRY_RUN");
+    var result = GitHubRunner.execute("-DDRY_RUN=false publish 12.0");
+
+    assertThat(result).startsWith("FAILED -DDRY_RUN=false publish 12.0: Unknown command publish");
+    assertThat(System.getProperty("DRY_RUN")).isNull();
+  }
+
+  @Test
+  void processProperties() {
+    assertThatThrownBy(() -> Command.parse("-DGITHUB.CONNECTOR=replay tag release/12.0 v12.0.1"))
+        .hasMessageContaining("GITHUB.CONNECTOR cannot be set per command");
+    assertThatThrownBy(() -> Command.parse("-DGITHUB.REPLAY.LATENCY=50 tag release/12.0 v12.0.1"))
+        .hasMessageContaining("GITHUB.REPLAY.LATENCY cannot be set per command");
+    assertThat(GitHubRunner.execute("-DGITHUB.TOKEN=secret tag release/12.0 v12.0.1"))
+        .startsWith("FAILED").contains("GITHUB.TOKEN cannot be set per command");
+    assertThat(System.getProperty("GITHUB.TOKEN")).isNull();
+  }
+
+  @Test
+  void serve(@TempDir Path dir) throws Exception {
+    var socket = dir.resolve("runner.sock");
+    System.setProperty("GITHUB.RUNNER.SOCKET", socket.toString());
+    var runner = new Thread(() -> {
+      try {
+        GitHubRunner.main(new String[0]);
+      } catch (IOException ex) {
+        throw new UncheckedIOException(ex);
+      }
+    });
+    try {
+      runner.start();
+      while (!Files.exists(socket) && runner.isAlive()) {
+        Thread.sleep(10);
+      }
+      assertThat(PosixFilePermissions.toString(Files.getPosixFilePermissions(socket))).isEqualTo("rw-------");
+
+      try (var client = SocketChannel.open(UnixDomainSocketAddress.of(socket));
+          var in = new BufferedReader(Channels.newReader(client, StandardCharsets.UTF_8));
+          var out = new PrintWriter(Channels.newWriter(client, StandardCharsets.UTF_8), true)) {
+        out.println("publish 12.0");
+        assertThat(in.readLine()).startsWith("FAILED publish 12.0: Unknown command publish");
+        out.println("shutdown");
+        assertThat(in.readLine()).isEqualTo("OK shutdown");
+      }
+      runner.join(5_000);
+      assertThat(socket).doesNotExist();
+    } finally {
+      System.clearProperty("GITHUB.RUNNER.SOCKET");
+    }
+  }
+}
@@ -0,0 +1,34 @@
+package com.axonivy.github;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+
+import org.junit.jupiter.api.Test;
+
+import com.axonivy.github.connector.StubConnector;
+
+class TestRefResolver {
+
+  private static final String SHA = "6e98290e0c1d3b1b8d8d5a6f0b1c2d3e4f5a6b7c";
+  private static final String TAG_SHA = "940bd336248efae0f9ee5bc7b2d5c985887b16ac";
+
+  @Test
+  void createTag() throws IOException {
+    var github = new StubConnector()
+        .answer("GET /repos/axonivy/core", "{\"id\":1,\"name\":\"core\",\"full_name\":\"axonivy/core\"}")
+        .answer("POST /repos/axonivy/core/git/tags",
+            "{\"tag\":\"v12.0.1\",\"sha\":\"" + TAG_SHA + "\",\"object\":{\"sha\":\"" + SHA + "\",\"type\":\"commit\"}}")
+        .answer("POST /repos/axonivy/core/git/refs",
+            "{\"ref\":\"refs/tags/v12.0.1\",\"object\":{\"sha\":\"" + TAG_SHA + "\",\"type\":\"tag\"}}");
+    var repo = github.github().getRepository("axonivy/core");
+    RefResolver.get().createTag(repo, "v12.0.1", "v12.0.1", SHA);
+
+    assertThat(github.requests()).containsExactly(
+        "GET /repos/axonivy/core",
+        "POST /repos/axonivy/core/git/tags",
+        "POST /repos/axonivy/core/git/refs");
+    assertThat(RefResolver.get().tag(repo, "v12.0.1")).contains(SHA);
+  }
+
+}
@@ -0,0 +1,104 @@
+package com.axonivy.github;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.kohsuke.github.GHRepository;
+
+import com.axonivy.github.ReleaseEngine.Release;
+import com.axonivy.github.ReleaseResult.Status;
+import com.axonivy.github.connector.StubConnector;
+
+class TestReleaseEngine {
+
+  private static final String STEP = "tag v12.0.1";
+
+  @Test
+  void run() throws IOException {
+    var github = new StubConnector()
+        .answer("GET /repos/axonivy/core", repo("core"))
+        .answer("GET /repos/axonivy/rules", repo("rules"))
+        .answer("GET /repos/axonivy/webeditor", repo("webeditor"));
+    var journal = ReleaseJournal.none();
+    journal.done("axonivy/market", STEP, "abc");
+
+    System.setProperty("GITHUB.RELEASE.THREADS", "4");
+    try {
+      var results = new ReleaseEngine(github.github(), journal)
+          .run(List.of("core", "market", "rules", "webeditor"), new TagRelease());
+
+      assertThat(results).extracting(ReleaseResult::repo)
+          .containsExactly("axonivy/core", "axonivy/market", "axonivy/rules", "axonivy/webeditor");
+      assertThat(results).extracting(ReleaseResult::status)
+          .containsExactly(Status.CREATED, Status.UP_TO_DATE, Status.FAILED, Status.CREATED);
+      assertThat(results.get(2).message()).isEqualTo("Failed on repo axonivy/rules: 502 Bad Gateway");
+      assertThat(github.requests()).doesNotContain("GET /repos/axonivy/market");
+      assertThat(ReleaseEngine.hasFailures(results)).isTrue();
+    } finally {
+      System.clearProperty("GITHUB.RELEASE.THREADS");
+    }
+  }
+
+  @Test
+  void archivedOnlyIfLive() throws IOException {
+    var github = new StubConnector()
+        .answer("GET /repos/axonivy/core", repo("core"))
+        .answer("GET /repos/axonivy/old", repo("old", true));
+    var archivedYesterday = new StubConnector().answer("GET /repos/axonivy/core", repo("core", true));
+    RepoMetadata.get().record(archivedYesterday.github().getRepository("axonivy/core"));
+
+    var results = new ReleaseEngine(github.github(), ReleaseJournal.none()).run(List.of("core", "old"), new TagRelease());
+
+    assertThat(results).extracting(ReleaseResult::status).containsExactly(Status.CREATED, Status.SKIPPED);
+    assertThat(results.get(1).message()).isEqualTo("Skipping archived repo axonivy/old");
+  }
+
+  @Test
+  void table() {
+    var table = ReleaseEngine.table(List.of(
+        new ReleaseResult("axonivy/core", Status.CREATED, "abc", List.of("Create tag v12.0.1")),
+        new ReleaseResult("axonivy/rules", Status.FAILED, "", List.of("Failed on repo axonivy/rules: 502"))));
+    assertThat(table.lines()).hasSize(3);
+    assertThat(table.lines().toList().get(2)).startsWith("axonivy/rules  FAILED").endsWith("502");
+  }
+
+  private static String repo(String name) {
+    return repo(name, false);
+  }
+
+  private static String repo(String name, boolean archived) {
+    return "{\"id\":1,\"name\":\"" + name + "\",\"full_name\":\"axonivy/" + name + "\",\"default_branch\":\"master\","
+        + "\"archived\":" + archived + "}";
+  }
+
+  /**
+   * Finishes the first repository last, so the results come back out of order.
+   */
+  private static class TagRelease implements Release {
+
+    @Override
+    public Set<String> steps() {
+      return Set.of(STEP);
+    }
+
+    @Override
+    public ReleaseResult run(GHRepository repo, ReleaseJournal journal) throws IOException {
+      if (repo.getName().equals("rules")) {
+        throw new IOException("502 Bad Gateway");
+      }
+      if (repo.getName().equals("core")) {
+        try {
+          Thread.sleep(200);
+        } catch (InterruptedException ex) {
+          Thread.currentThread().interrupt();
+        }
+      }
+      journal.done(repo.getFullName(), STEP, "abc");
+      return new ReleaseResult(repo.getFullName(), Status.CREATED, "abc", List.of("Create " + STEP));
+    }
+  }
+}
@@ -0,0 +1,30 @@
+package com.axonivy.github;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class TestReleaseJournal {
+
+  @TempDir
+  Path dir;
+
+  @Test
+  void resume() throws IOException {
+    var file = dir.resolve("journal.json");
+    var journal = ReleaseJournal.load(file);
+    journal.done("axonivy/core", "branch release/12.0", "abc");
+
+    var resumed = ReleaseJournal.load(file);
+    assertThat(resumed.sha("axonivy/core", "branch release/12.0")).contains("abc");
+    assertThat(resumed.sha("axonivy/core", "tag base12.0")).isEmpty();
+    assertThat(resumed.isDone("axonivy/core", Set.of("branch release/12.0"))).isTrue();
+    assertThat(resumed.isDone("axonivy/core", Set.of("branch release/12.0", "tag base12.0"))).isFalse();
+    assertThat(resumed.isDone("axonivy/rules", Set.of("branch release/12.0"))).isFalse();
+  }
+}
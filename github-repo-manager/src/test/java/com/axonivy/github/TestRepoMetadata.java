@@ -0,0 +1,95 @@
+package com.axonivy.github;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.kohsuke.github.GHRepository;
+
+import com.axonivy.github.connector.StubConnector;
+
+class TestRepoMetadata {
+
+  private static final String SHA = "6e98290e0c1d3b1b8d8d5a6f0b1c2d3e4f5a6b7c";
+
+  @TempDir
+  Path dir;
+
+  @Test
+  void persist() throws IOException {
+    var file = dir.resolve("repo-metadata.json");
+    var metadata = RepoMetadata.load(file);
+    metadata.files(repo("2024-05-01T10:00:00Z", true), null, Map.of("LICENSE", SHA, "SECURITY.md", ""));
+    metadata.save();
+
+    var reloaded = RepoMetadata.load(file);
+    var entry = reloaded.fresh("axonivy/core").orElseThrow();
+    assertThat(entry.archived()).isTrue();
+    assertThat(entry.defaultBranch()).isEqualTo("master");
+    assertThat(reloaded.files(repo("2024-05-01T10:00:00Z", true), null, Set.of("LICENSE", "SECURITY.md")))
+        .contains(Map.of("LICENSE", SHA, "SECURITY.md", ""));
+  }
+
+  @Test
+  void ttl() throws IOException {
+    var metadata = RepoMetadata.none();
+    metadata.record(repo("2024-05-01T10:00:00Z", false));
+
+    assertThat(metadata.fresh("axonivy/core", Instant.now())).isPresent();
+    assertThat(metadata.fresh("axonivy/core", Instant.now().plus(Duration.ofDays(2)))).isEmpty();
+    assertThat(metadata.fresh("axonivy/webeditor")).isEmpty();
+  }
+
+  @Test
+  void filesExpireOnPush() throws IOException {
+    var metadata = RepoMetadata.none();
+    metadata.files(repo("2024-05-01T10:00:00Z", false), null, Map.of("LICENSE", SHA));
+
+    assertThat(metadata.files(repo("2024-05-01T10:00:00Z", false), null, Set.of("CODE_OF_CONDUCT.md"))).isEmpty();
+    var pushed = repo("2024-05-02T08:00:00Z", false);
+    assertThat(metadata.files(pushed, null, Set.of("LICENSE"))).isEmpty();
+    metadata.record(pushed);
+    assertThat(metadata.fresh("axonivy/core").orElseThrow().files()).isEmpty();
+  }
+
+  @Test
+  void filesExpireOnUpdate() throws IOException {
+    var metadata = RepoMetadata.none();
+    metadata.files(repo("2024-05-01T10:00:00Z", false), null, Map.of("LICENSE", SHA));
+
+    var updated = repo("2024-05-01T10:00:00Z", "2024-05-03T00:00:00Z", false);
+    assertThat(metadata.files(updated, null, Set.of("LICENSE"))).isEmpty();
+    metadata.record(updated);
+    assertThat(metadata.fresh("axonivy/core").orElseThrow().files()).isEmpty();
+  }
+
+  @Test
+  void filesAtCommit() throws IOException {
+    var metadata = RepoMetadata.none();
+    var repo = repo("2024-05-01T10:00:00Z", false);
+    metadata.files(repo, SHA, Map.of("LICENSE", SHA));
+
+    assertThat(metadata.files(repo, SHA, Set.of("LICENSE"))).contains(Map.of("LICENSE", SHA));
+    assertThat(metadata.files(repo, null, Set.of("LICENSE"))).contains(Map.of("LICENSE", SHA));
+    assertThat(metadata.files(repo, "940bd336248efae0f9ee5bc7b2d5c985887b16ac", Set.of("LICENSE"))).isEmpty();
+  }
+
+  private static GHRepository repo(String pushedAt, boolean archived) throws IOException {
+    return repo(pushedAt, "2024-04-01T00:00:00Z", archived);
+  }
+
+  private static GHRepository repo(String pushedAt, String updatedAt, boolean archived) throws IOException {
+    var json = """
+        {"id":1,"name":"core","full_name":"axonivy/core","default_branch":"master","archived":%s,
+         "html_url":"https://github.com/axonivy/core","pushed_at":"%s","updated_at":"%s"}
+        """.formatted(archived, pushedAt, updatedAt);
+    return new StubConnector().answer("GET /repos/axonivy/core", json).github().getRepository("axonivy/core");
+  }
+}
@@ -0,0 +1,68 @@
+package com.axonivy.github;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.net.URL;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.axonivy.github.connector.GraphQlClient;
+import com.axonivy.github.connector.StubConnector;
+import com.axonivy.github.connector.StubConnector.Reply;
+
+class TestRepoStates {
+
+  private static final String HEAD = "6e98290e0c1d3b1b8d8d5a6f0b1c2d3e4f5a6b7c";
+  private static final String TAGGED = "940bd336248efae0f9ee5bc7b2d5c985887b16ac";
+
+  @AfterEach
+  void reset() {
+    System.clearProperty("GITHUB.GRAPHQL.CHUNK");
+  }
+
+  @Test
+  void load() throws IOException {
+    System.setProperty("GITHUB.GRAPHQL.CHUNK", "2");
+    var github = new StubConnector().answer("POST /graphql", query -> {
+      if (query.contains("\\\"core\\\"")) {
+        return new Reply(200, """
+            {"data":{
+              "r0":{"isArchived":false,"defaultBranchRef":{"name":"master","target":{"oid":"%s"}},
+                    "ref0":{"target":{"oid":"%s"}},
+                    "ref1":{"target":{"oid":"0000000000000000000000000000000000000001","target":{"oid":"%s"}}}},
+              "r1":{"isArchived":true,"defaultBranchRef":{"name":"master","target":{"oid":"%s"}},"ref0":null,"ref1":null}}}
+            """.formatted(HEAD, HEAD, TAGGED, HEAD));
+      }
+      return new Reply(200, """
+          {"data":{"r0":null},"errors":[{"type":"NOT_FOUND","message":"Could not resolve to a Repository"}]}
+          """);
+    });
+    var graphQl = new GraphQlClient(github, new URL("https://api.github.com/graphql"), "token");
+
+    var states = RepoStates.load(graphQl, List.of("core", "webeditor", "gone"), List.of("heads/release/12.0", "tags/v12.0.1"));
+
+    assertThat(github.requests()).hasSize(2);
+    var core = states.state("axonivy/core").orElseThrow();
+    assertThat(core.archived()).isFalse();
+    assertThat(core.defaultBranch()).isEqualTo("master");
+    assertThat(core.defaultBranchSha()).isEqualTo(HEAD);
+    assertThat(core.ref("heads/release/12.0")).contains(HEAD);
+    assertThat(core.ref("tags/v12.0.1")).contains(TAGGED);
+    var webeditor = states.state("axonivy/webeditor").orElseThrow();
+    assertThat(webeditor.archived()).isTrue();
+    assertThat(webeditor.ref("heads/release/12.0")).isEmpty();
+    assertThat(states.state("axonivy/gone")).isEmpty();
+  }
+
+  @Test
+  void query() {
+    var query = RepoStates.query(List.of("core"), List.of("tags/v12.0.1"));
+    assertThat(query)
+        .contains("r0: repository(owner: \"axonivy\", name: \"core\")")
+        .contains("ref0: ref(qualifiedName: \"refs/tags/v12.0.1\")");
+  }
+
+}
@@ -0,0 +1,102 @@
+package com.axonivy.github.connector;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.kohsuke.github.GitHub;
+import org.kohsuke.github.GitHubBuilder;
+import org.kohsuke.github.connector.GitHubConnector;
+import org.kohsuke.github.connector.GitHubConnectorRequest;
+import org.kohsuke.github.connector.GitHubConnectorResponse;
+
+/**
+ * Answers requests with canned JSON by method and path (including the query, if any) and records what it has
+ * been asked. Requests without an answer get a 404.
+ */
+public class StubConnector implements GitHubConnector {
+
+  private final Map<String, Answer> answers = new LinkedHashMap<>();
+  private final List<String> requests = Collections.synchronizedList(new ArrayList<>());
+  private final Map<String, String> bodies = Collections.synchronizedMap(new LinkedHashMap<>());
+
+  public StubConnector answer(String request, String json) {
+    return answer(request, 200, json);
+  }
+
+  public StubConnector answer(String request, int status, String json) {
+    return answer(request, body -> new Reply(status, json));
+  }
+
+  /**
+   * @param request e.g. <code>GET /repos/axonivy/core</code>
+   */
+  public StubConnector answer(String request, Answer answer) {
+    answers.put(request, answer);
+    return this;
+  }
+
+  public GitHub github() throws IOException {
+    return new GitHubBuilder().withConnector(this).build();
+  }
+
+  /**
+   * @return the requests in the order they have been sent, e.g. <code>POST /repos/axonivy/core/git/refs</code>
+   */
+  public List<String> requests() {
+    return List.copyOf(requests);
+  }
+
+  /**
+   * @return the body of the last request, <code>null</code> if there was none
+   */
+  public String body(String request) {
+    return bodies.get(request);
+  }
+
+  @Override
+  public GitHubConnectorResponse send(GitHubConnectorRequest request) throws IOException {
+    var url = request.url();
+    var key = request.method() + " " + url.getPath() + (url.getQuery() == null ? "" : "?" + url.getQuery());
+    requests.add(key);
+    var body = "";
+    if (request.hasBody()) {
+      try (var in = request.body()) {
+        body = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+      }
+      bodies.put(key, body);
+    }
+    var answer = answers.get(key);
+    var reply = answer == null ? new Reply(404, "{\"message\":\"Not Found\"}") : answer.reply(body);
+    return json(request, reply.status(), reply.headers(), reply.json());
+  }
+
+  public static GitHubConnectorResponse json(GitHubConnectorRequest request, int status, String json) {
+    return json(request, status, Map.of(), json);
+  }
+
+  private static GitHubConnectorResponse json(GitHubConnectorRequest request, int status,
+      Map<String, List<String>> headers, String json) {
+    var allHeaders = new LinkedHashMap<>(headers);
+    allHeaders.put("Content-Type", List.of("application/json"));
+    return new BufferedResponse(request, status, allHeaders, json.getBytes(StandardCharsets.UTF_8));
+  }
+
+  public interface Answer {
+    Reply reply(String requestBody);
+  }
+
+  /**
+   * @param headers additional response headers, e.g. the <code>Link</code> to the next page
+   */
+  public record Reply(int status, String json, Map<String, List<String>> headers) {
+
+    public Reply(int status, String json) {
+      this(status, json, Map.of());
+    }
+  }
+}
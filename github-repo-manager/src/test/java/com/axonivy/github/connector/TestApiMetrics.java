@@ -0,0 +1,87 @@
+package com.axonivy.github.connector;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.kohsuke.github.GitHubBuilder;
+import org.kohsuke.github.connector.GitHubConnector;
+import org.kohsuke.github.connector.GitHubConnectorRequest;
+
+class TestApiMetrics {
+
+  private static final String REPO = "{\"id\":1,\"name\":\"core\",\"full_name\":\"axonivy/core\"}";
+
+  @TempDir
+  Path dir;
+
+  @Test
+  void endpoint() {
+    assertThat(ApiMetrics.endpoint("/repos/axonivy/core")).isEqualTo("repos");
+    assertThat(ApiMetrics.endpoint("/repos/axonivy/core/contents/LICENSE")).isEqualTo("content");
+    assertThat(ApiMetrics.endpoint("/repos/axonivy/core/git/trees/master")).isEqualTo("content");
+    assertThat(ApiMetrics.endpoint("/repos/axonivy/core/git/ref/tags/v1")).isEqualTo("refs");
+    assertThat(ApiMetrics.endpoint("/repos/axonivy/core/git/commits/abc")).isEqualTo("commits");
+    assertThat(ApiMetrics.endpoint("/repos/axonivy/core/compare/a...b")).isEqualTo("commits");
+    assertThat(ApiMetrics.endpoint("/repos/axonivy/core/releases")).isEqualTo("tags");
+    assertThat(ApiMetrics.endpoint("/repos/axonivy/core/pulls")).isEqualTo("pulls");
+    assertThat(ApiMetrics.endpoint("/orgs/axonivy/repos")).isEqualTo("repos");
+    assertThat(ApiMetrics.endpoint("/graphql")).isEqualTo("graphql");
+  }
+
+  @Test
+  void record() throws IOException {
+    var remaining = new int[] {4990};
+    GitHubConnector github = request -> response(request, Map.of(
+        "X-RateLimit-Limit", List.of("5000"),
+        "X-RateLimit-Remaining", List.of(String.valueOf(remaining[0]--)),
+        "X-RateLimit-Reset", List.of("1767261600")));
+    var metrics = new ApiMetrics();
+    var client = new GitHubBuilder().withConnector(new MetricsConnector(github, "Tagger", metrics)).build();
+    client.getRepository("axonivy/core");
+    client.getRepository("axonivy/core");
+
+    assertThat(metrics.calls("Tagger", "repos")).isEqualTo(2);
+    assertThat(metrics.bytes("Tagger", "repos")).isEqualTo(2 * REPO.length());
+    assertThat(metrics.rateLimitUsed()).containsEntry("core", 2);
+
+    var prometheus = dir.resolve("metrics.prom");
+    metrics.writePrometheus(prometheus);
+    assertThat(Files.readString(prometheus))
+        .contains("github_api_calls_total{tool=\"Tagger\",endpoint=\"repos\"} 2")
+        .contains("github_api_latency_seconds_bucket{tool=\"Tagger\",endpoint=\"repos\",le=\"+Inf\"} 2")
+        .contains("github_rate_limit_used{resource=\"core\"} 2");
+    var json = dir.resolve("metrics.json");
+    metrics.writeJson(json);
+    assertThat(Files.readString(json)).contains("\"Tagger\"", "\"calls\" : 2");
+  }
+
+  @Test
+  void recordCacheHit() throws IOException {
+    GitHubConnector github = request -> "\"abc\"".equals(request.header("If-None-Match"))
+        ? new BufferedResponse(request, 304, Map.of(), new byte[0])
+        : response(request, Map.of("ETag", List.of("\"abc\"")));
+    var metrics = new ApiMetrics();
+    var caching = new CachingConnector(github, dir, 1024 * 1024);
+    var client = new GitHubBuilder().withConnector(new MetricsConnector(caching, "Tagger", metrics)).build();
+    client.getRepository("axonivy/core");
+    client.getRepository("axonivy/core");
+
+    assertThat(metrics.calls("Tagger", "repos")).isEqualTo(2);
+    assertThat(metrics.bytes("Tagger", "repos")).isEqualTo(REPO.length());
+  }
+
+  private static BufferedResponse response(GitHubConnectorRequest request, Map<String, List<String>> headers) {
+    var allHeaders = new HashMap<>(headers);
+    allHeaders.put("Content-Type", List.of("application/json"));
+    return new BufferedResponse(request, 200, allHeaders, REPO.getBytes(StandardCharsets.UTF_8));
+  }
+}
@@ -0,0 +1,106 @@
+package com.axonivy.github.connector;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.kohsuke.github.GitHubBuilder;
+import org.kohsuke.github.connector.GitHubConnector;
+import org.kohsuke.github.connector.GitHubConnectorResponse;
+
+class TestCachingConnector {
+
+  private static final String ETAG = "\"abc\"";
+
+  @TempDir
+  Path dir;
+
+  private final List<String> conditions = new ArrayList<>();
+
+  private final GitHubConnector github = request -> {
+    var ifNoneMatch = request.header("If-None-Match");
+    conditions.add(String.valueOf(ifNoneMatch));
+    if (ETAG.equals(ifNoneMatch)) {
+      return new BufferedResponse(request, 304, Map.of("ETag", List.of(ETAG)), new byte[0]);
+    }
+    return new BufferedResponse(request, 200,
+        Map.of("Content-Type", List.of("application/json"), "ETag", List.of(ETAG)),
+        "{\"id\":1,\"name\":\"core\",\"full_name\":\"axonivy/core\"}".getBytes(StandardCharsets.UTF_8));
+  };
+
+  @Test
+  void revalidate() throws IOException {
+    var connector = new CachingConnector(github, dir, 1024 * 1024);
+    var client = new GitHubBuilder().withConnector(connector).build();
+    assertThat(client.getRepository("axonivy/core").getFullName()).isEqualTo("axonivy/core");
+    assertThat(client.getRepository("axonivy/core").getFullName()).isEqualTo("axonivy/core");
+    assertThat(conditions).containsExactly("null", ETAG);
+    assertThat(connector.hits()).isEqualTo(1);
+    assertThat(connector.misses()).isEqualTo(1);
+
+    var nextRun = new CachingConnector(github, dir, 1024 * 1024);
+    new GitHubBuilder().withConnector(nextRun).build().getRepository("axonivy/core");
+    assertThat(nextRun.hits()).isEqualTo(1);
+  }
+
+  @Test
+  void truncatedBody() throws IOException {
+    var truncate = new boolean[] {true};
+    GitHubConnector flaky = request -> {
+      if (!truncate[0]) {
+        return github.send(request);
+      }
+      truncate[0] = false;
+      return new GitHubConnectorResponse.ByteArrayResponse(request, 200,
+          Map.of("Content-Type", List.of("application/json"), "ETag", List.of(ETAG))) {
+        @Override
+        protected InputStream rawBodyStream() throws IOException {
+          throw new EOFException("connection reset");
+        }
+      };
+    };
+    var connector = new CachingConnector(flaky, dir, 1024 * 1024);
+    var client = new GitHubBuilder().withConnector(connector).build();
+    assertThatThrownBy(() -> client.getRepository("axonivy/core")).hasRootCauseMessage("connection reset");
+    assertThat(client.getRepository("axonivy/core").getFullName()).isEqualTo("axonivy/core");
+    assertThat(conditions).containsExactly("null");
+    assertThat(connector.hits()).isZero();
+  }
+
+  @Test
+  void evict() throws IOException {
+    var connector = new CachingConnector(github, dir, 1);
+    var client = new GitHubBuilder().withConnector(connector).build();
+    client.getRepository("axonivy/core");
+    client.getRepository("axonivy/core");
+    assertThat(connector.hits()).isZero();
+    assertThat(connector.misses()).isEqualTo(2);
+  }
+
+  @Test
+  void unreadableEntry() throws IOException {
+    var connector = new CachingConnector(github, dir, 1024 * 1024);
+    var client = new GitHubBuilder().withConnector(connector).build();
+    client.getRepository("axonivy/core");
+    try (var files = Files.list(dir)) {
+      for (var file : files.toList()) {
+        Files.writeString(file, "{\"url\":");
+      }
+    }
+    assertThat(client.getRepository("axonivy/core").getFullName()).isEqualTo("axonivy/core");
+    assertThat(client.getRepository("axonivy/core").getFullName()).isEqualTo("axonivy/core");
+    assertThat(conditions).containsExactly("null", "null", ETAG);
+    assertThat(connector.statistics()).contains("1 entries");
+  }
+}
@@ -0,0 +1,42 @@
+package com.axonivy.github.connector;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.kohsuke.github.GitHub;
+import org.kohsuke.github.GitHubBuilder;
+import org.kohsuke.github.connector.GitHubConnector;
+
+class TestReplayConnector {
+
+  @TempDir
+  Path dir;
+
+  @Test
+  void recordAndReplay() throws IOException {
+    GitHubConnector fake = request -> new BufferedResponse(request, 200,
+        Map.of("Content-Type", List.of("application/json")),
+        "{\"login\":\"axonivy\",\"id\":2}".getBytes(StandardCharsets.UTF_8));
+    var recorded = new GitHubBuilder().withConnector(new RecordingConnector(fake, dir)).build();
+    assertThat(recorded.getOrganization("axonivy").getLogin()).isEqualTo("axonivy");
+
+    var replayed = replay(dir);
+    assertThat(replayed.getOrganization("axonivy").getLogin()).isEqualTo("axonivy");
+    assertThatThrownBy(() -> replayed.getOrganization("other")).hasRootCauseMessage("No fixture for GET https://api.github.com/orgs/other");
+  }
+
+  private static GitHub replay(Path fixtures) throws IOException {
+    return new GitHubBuilder()
+        .withConnector(new ReplayConnector(fixtures, Duration.ZERO))
+        .build();
+  }
+}
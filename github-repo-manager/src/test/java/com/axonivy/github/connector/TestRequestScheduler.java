@@ -0,0 +1,107 @@
+package com.axonivy.github.connector;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.kohsuke.github.GitHubBuilder;
+import org.kohsuke.github.RateLimitHandler;
+import org.kohsuke.github.connector.GitHubConnector;
+import org.kohsuke.github.connector.GitHubConnectorRequest;
+
+class TestRequestScheduler {
+
+  private static final Instant NOW = Instant.parse("2026-01-01T10:00:00Z");
+  private static final String REPO = "{\"id\":1,\"name\":\"core\",\"full_name\":\"axonivy/core\"}";
+
+  private final Clock clock = Clock.fixed(NOW, ZoneOffset.UTC);
+  private final List<Long> sleeps = new ArrayList<>();
+
+  @Test
+  void secondaryLimit() throws IOException {
+    var responses = new ArrayList<>(List.of(403, 200));
+    GitHubConnector github = request -> {
+      var status = responses.remove(0);
+      if (status == 403) {
+        return response(request, 403, Map.of("Retry-After", List.of("3")), "{\"message\":\"You have exceeded a secondary rate limit\"}");
+      }
+      return response(request, 200, Map.of(), REPO);
+    };
+    var scheduler = new RequestScheduler(github, 8, clock, sleeps::add);
+    var client = new GitHubBuilder().withConnector(scheduler).build();
+    assertThat(client.getRepository("axonivy/core").getFullName()).isEqualTo("axonivy/core");
+    assertThat(sleeps).containsExactly(3000L);
+    assertThat(scheduler.concurrency()).isEqualTo(4);
+  }
+
+  @Test
+  void paceWhenQuotaGetsLow() throws IOException {
+    var reset = NOW.plusSeconds(100);
+    GitHubConnector github = request -> response(request, 200, Map.of(
+        "X-RateLimit-Limit", List.of("5000"),
+        "X-RateLimit-Remaining", List.of("10"),
+        "X-RateLimit-Reset", List.of(String.valueOf(reset.getEpochSecond()))), REPO);
+    var scheduler = new RequestScheduler(github, 8, clock, sleeps::add);
+    var client = new GitHubBuilder().withConnector(scheduler).build();
+    client.getRepository("axonivy/core");
+    assertThat(sleeps).isEmpty();
+    client.getRepository("axonivy/core");
+    client.getRepository("axonivy/core");
+    // 100s for 10 remaining requests: the first slot is now, the next one 10s later
+    assertThat(sleeps).containsExactly(10_000L);
+  }
+
+  @Test
+  void waitForReset() throws IOException {
+    var reset = NOW.plusSeconds(60);
+    var responses = new ArrayList<>(List.of("0", "4999"));
+    GitHubConnector github = request -> {
+      var remaining = responses.remove(0);
+      var status = "0".equals(remaining) ? 403 : 200;
+      return response(request, status, Map.of(
+          "X-RateLimit-Limit", List.of("5000"),
+          "X-RateLimit-Remaining", List.of(remaining),
+          "X-RateLimit-Reset", List.of(String.valueOf(reset.getEpochSecond()))), status == 200 ? REPO : "{\"message\":\"API rate limit exceeded\"}");
+    };
+    var client = new GitHubBuilder().withConnector(new RequestScheduler(github, 8, clock, sleeps::add)).build();
+    assertThat(client.getRepository("axonivy/core").getFullName()).isEqualTo("axonivy/core");
+    assertThat(sleeps).containsExactly(61_000L);
+  }
+
+  @Test
+  void forbiddenWithoutRateLimit() throws IOException {
+    var reset = NOW.plusSeconds(60);
+    var calls = new ArrayList<String>();
+    GitHubConnector github = request -> {
+      calls.add(request.url().getPath());
+      return response(request, 403, Map.of(
+          "X-RateLimit-Limit", List.of("5000"),
+          "X-RateLimit-Remaining", List.of("0"),
+          "X-RateLimit-Reset", List.of(String.valueOf(reset.getEpochSecond()))), "{\"message\":\"Resource not accessible by integration\"}");
+    };
+    var client = new GitHubBuilder()
+        .withConnector(new RequestScheduler(github, 8, clock, sleeps::add))
+        .withRateLimitHandler(RateLimitHandler.FAIL)
+        .build();
+    assertThatThrownBy(() -> client.getRepository("axonivy/core")).isInstanceOf(IOException.class);
+    assertThat(calls).hasSize(1);
+    assertThat(sleeps).isEmpty();
+  }
+
+  private static BufferedResponse response(GitHubConnectorRequest request, int status,
+          Map<String, List<String>> headers, String body) {
+    var allHeaders = new HashMap<>(headers);
+    allHeaders.put("Content-Type", List.of("application/json"));
+    return new BufferedResponse(request, status, allHeaders, body.getBytes(StandardCharsets.UTF_8));
+  }
+}
@@ -0,0 +1,63 @@
+package com.axonivy.github.file;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Base64;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.axonivy.github.file.FileChanges.Action;
+
+class TestChangePlan {
+
+  @TempDir
+  Path dir;
+
+  @Test
+  void saveAndLoad() throws IOException {
+    var license = "Apache License".getBytes(StandardCharsets.UTF_8);
+    var plan = ChangePlan.create();
+    var market = FileChanges.create(true);
+    market.add(GitHubFiles.LICENSE, license);
+    market.remove(GitHubFiles.SECURITY, "1111");
+    plan.add("axonivy-market/market", "aaaa", market);
+    var portal = FileChanges.create(true);
+    portal.update(GitHubFiles.LICENSE, "2222", license);
+    plan.add("axonivy-market/portal", "bbbb", portal);
+
+    var file = dir.resolve("plan.json");
+    plan.save(file);
+    var json = Files.readString(file);
+    assertThat(json).containsOnlyOnce(Base64.getEncoder().encodeToString(license));
+    assertThat(json.indexOf("axonivy-market/market")).isLessThan(json.indexOf("axonivy-market/portal"));
+
+    var loaded = ChangePlan.load(file);
+    var copy = dir.resolve("copy.json");
+    loaded.save(copy);
+    assertThat(Files.readString(copy)).isEqualTo(json);
+  }
+
+  @Test
+  void changes() {
+    var changes = FileChanges.create(true);
+    changes.add(GitHubFiles.LICENSE, new byte[] {1});
+    changes.remove(GitHubFiles.SECURITY, "1111");
+    changes.update(GitHubFiles.LICENSE, "2222", new byte[] {2});
+    assertThat(changes.changes()).extracting(FileChanges.Change::action).containsExactly(Action.UPDATE, Action.REMOVE);
+    assertThat(changes).hasToString("UPDATE LICENSE, REMOVE SECURITY.md");
+  }
+
+  @Test
+  void dryRunApply() throws IOException {
+    var plan = ChangePlan.create();
+    var changes = FileChanges.create(true);
+    changes.add(GitHubFiles.LICENSE, new byte[] {1});
+    plan.add("axonivy-market/market", "aaaa", changes);
+    assertThat(plan.apply(null, null)).isEqualTo(1);
+  }
+}
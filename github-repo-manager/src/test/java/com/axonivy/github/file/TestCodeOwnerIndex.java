@@ -0,0 +1,46 @@
+package com.axonivy.github.file;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.axonivy.github.file.CodeOwnerIndex.CodeOwner;
+
+class TestCodeOwnerIndex {
+
+  private static final String API = "https://api.github.com/repos/";
+
+  @Test
+  void longestMatch() {
+    var index = new CodeOwnerIndex(List.of(
+        new CodeOwner("axonivy-market/market", "@team-a"),
+        new CodeOwner("axonivy-market/marketplace", "@team-b")));
+    assertThat(owners(index, "axonivy-market/market")).isEqualTo("*  @team-a");
+    assertThat(owners(index, "axonivy-market/marketplace")).isEqualTo("*  @team-b");
+    assertThat(owners(index, "axonivy-market/marketplace-ui")).isEqualTo("*  @team-b");
+    assertThat(owners(index, "axonivy-market/market-ui")).isEqualTo("*  @team-a");
+    assertThat(index.codeOwners(API + "axonivy-market/portal")).isEmpty();
+  }
+
+  @Test
+  void firstEntryOfProductWins() {
+    var index = new CodeOwnerIndex(List.of(
+        new CodeOwner("axonivy-market/portal", "@team-a"),
+        new CodeOwner("axonivy-market/portal", "@team-b")));
+    assertThat(owners(index, "axonivy-market/portal")).isEqualTo("*  @team-a");
+  }
+
+  @Test
+  void loadedFromResource() {
+    var index = CodeOwnerIndex.get();
+    assertThat(CodeOwnerIndex.get()).isSameAs(index);
+    assertThat(owners(index, "axonivy-market/marketplace")).startsWith("*  @axonivy-market/");
+  }
+
+  private static String owners(CodeOwnerIndex index, String repo) {
+    return new String(index.codeOwners(API + repo).orElseThrow(), StandardCharsets.UTF_8);
+  }
+}
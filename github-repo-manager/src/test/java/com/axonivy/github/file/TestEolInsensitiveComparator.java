@@ -0,0 +1,54 @@
+package com.axonivy.github.file;
+
+import static com.axonivy.github.file.EolInsensitiveComparator.EQUAL;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+class TestEolInsensitiveComparator {
+
+  @Test
+  void lineBreaks() throws IOException {
+    assertThat(difference("a\nb\nc\n", "a\r\nb\rc\r\n")).isEqualTo(EQUAL);
+    assertThat(difference("a\r\n\r\nb", "a\n\nb")).isEqualTo(EQUAL);
+    assertThat(difference("a\n\nb", "a\nb")).isEqualTo(2);
+  }
+
+  @Test
+  void finalLineBreak() throws IOException {
+    assertThat(difference("a\nb\n", "a\nb")).isEqualTo(EQUAL);
+    assertThat(difference("a\nb", "a\nb\r\n")).isEqualTo(EQUAL);
+    assertThat(difference("a\nb", "a\nb\n\n")).isEqualTo(3);
+    assertThat(difference("a\nb\n", "a\nb\n\n")).isEqualTo(4);
+    assertThat(difference("", "")).isEqualTo(EQUAL);
+    assertThat(difference("", "\n")).isEqualTo(0);
+  }
+
+  @Test
+  void firstDifference() throws IOException {
+    assertThat(difference("line 1\nline 2\n", "line 1\r\nline 3\r\n")).isEqualTo(13);
+    assertThat(difference("abc", "ab")).isEqualTo(2);
+    assertThat(difference("ab", "abc")).isEqualTo(2);
+  }
+
+  @Test
+  void largerThanBuffer() throws IOException {
+    var expected = "0123456789\n".repeat(2_000);
+    assertThat(difference(expected, expected.replace("\n", "\r\n"))).isEqualTo(EQUAL);
+    var actual = expected.substring(0, 15_000) + "x" + expected.substring(15_001);
+    assertThat(difference(expected, actual)).isEqualTo(15_000);
+  }
+
+  private static long difference(String expected, String actual) throws IOException {
+    return EolInsensitiveComparator.firstDifference(stream(expected), stream(actual));
+  }
+
+  private static InputStream stream(String text) {
+    return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+  }
+}
@@ -0,0 +1,90 @@
+package com.axonivy.github.file;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+import com.axonivy.github.connector.StubConnector;
+
+class TestFileChanges {
+
+  private static final String REPO = "/repos/axonivy/core";
+  private static final String HEAD = "6e98290e0c1d3b1b8d8d5a6f0b1c2d3e4f5a6b7c";
+  private static final String BRANCH = "940bd336248efae0f9ee5bc7b2d5c985887b16ac";
+  private static final String PULLS = "GET " + REPO + "/pulls?head=axonivy%3ASync_Repository_Files&state=open";
+
+  @Test
+  void commit_newBranch() throws IOException {
+    var github = stub()
+        .answer("GET " + REPO + "/commits/" + HEAD, commit(HEAD, "tree0"))
+        .answer(PULLS, "[]")
+        .answer("POST " + REPO + "/pulls", "{\"number\":1,\"html_url\":\"https://github.com/axonivy/core/pull/1\"}");
+
+    var url = changes().commit(github.github().getRepository("axonivy/core"), HEAD, null);
+
+    assertThat(url).hasToString("https://github.com/axonivy/core/pull/1");
+    assertThat(github.requests()).containsExactly(
+        "GET " + REPO,
+        "GET " + REPO + "/git/refs/heads/Sync_Repository_Files",
+        "GET " + REPO + "/commits/" + HEAD,
+        "GET " + REPO + "/git/trees/tree0",
+        "POST " + REPO + "/git/blobs",
+        "POST " + REPO + "/git/trees",
+        "POST " + REPO + "/git/commits",
+        "POST " + REPO + "/git/refs",
+        PULLS,
+        "POST " + REPO + "/pulls");
+    assertThat(github.body("POST " + REPO + "/git/trees")).contains("\"base_tree\":\"tree0\"", "\"path\":\"LICENSE\"", "blob1");
+    assertThat(github.body("POST " + REPO + "/git/commits")).contains("\"parents\":[\"" + HEAD + "\"]");
+    assertThat(github.body("POST " + REPO + "/git/refs")).contains("refs/heads/Sync_Repository_Files", "commit1");
+    assertThat(github.body("POST " + REPO + "/pulls")).contains("Sync repository files", "`LICENSE`");
+  }
+
+  @Test
+  void commit_openPullRequest() throws IOException {
+    var github = stub()
+        .answer("GET " + REPO + "/git/refs/heads/Sync_Repository_Files",
+            "{\"ref\":\"refs/heads/Sync_Repository_Files\",\"url\":\"https://api.github.com" + REPO
+                + "/git/refs/heads/Sync_Repository_Files\",\"object\":{\"sha\":\"" + BRANCH + "\",\"type\":\"commit\"}}")
+        .answer("GET " + REPO + "/compare/" + HEAD + "..." + BRANCH, "{\"status\":\"ahead\",\"ahead_by\":1,\"behind_by\":0,\"commits\":[],\"files\":[],"
+            + "\"base_commit\":{\"sha\":\"" + HEAD + "\"},\"merge_base_commit\":{\"sha\":\"" + HEAD + "\"}}")
+        .answer("GET " + REPO + "/commits/" + BRANCH, commit(BRANCH, "tree0"))
+        .answer("PATCH " + REPO + "/git/refs/heads/Sync_Repository_Files",
+            "{\"ref\":\"refs/heads/Sync_Repository_Files\",\"object\":{\"sha\":\"commit1\",\"type\":\"commit\"}}")
+        .answer(PULLS, "[{\"number\":1,\"html_url\":\"https://github.com/axonivy/core/pull/1\"}]");
+
+    var url = changes().commit(github.github().getRepository("axonivy/core"), HEAD, null);
+
+    assertThat(url).hasToString("https://github.com/axonivy/core/pull/1");
+    assertThat(github.requests())
+        .contains("PATCH " + REPO + "/git/refs/heads/Sync_Repository_Files")
+        .doesNotContain("POST " + REPO + "/pulls", "POST " + REPO + "/git/refs");
+    assertThat(github.body("POST " + REPO + "/git/commits")).contains("\"parents\":[\"" + BRANCH + "\"]");
+    assertThat(github.body("PATCH " + REPO + "/git/refs/heads/Sync_Repository_Files")).contains("\"force\":false");
+  }
+
+  private static FileChanges changes() {
+    var changes = FileChanges.create(true);
+    changes.add(GitHubFiles.LICENSE, "license".getBytes(StandardCharsets.UTF_8));
+    return changes;
+  }
+
+  private static StubConnector stub() {
+    return new StubConnector()
+        .answer("GET " + REPO, "{\"id\":1,\"name\":\"core\",\"full_name\":\"axonivy/core\",\"default_branch\":\"master\","
+            + "\"owner\":{\"login\":\"axonivy\"}}")
+        .answer("GET " + REPO + "/git/trees/tree0", "{\"sha\":\"tree0\",\"tree\":[],\"truncated\":false}")
+        .answer("POST " + REPO + "/git/blobs", "{\"sha\":\"blob1\"}")
+        .answer("POST " + REPO + "/git/trees", "{\"sha\":\"tree1\",\"tree\":[]}")
+        .answer("POST " + REPO + "/git/commits", "{\"sha\":\"commit1\"}")
+        .answer("POST " + REPO + "/git/refs",
+            "{\"ref\":\"refs/heads/Sync_Repository_Files\",\"object\":{\"sha\":\"commit1\",\"type\":\"commit\"}}");
+  }
+
+  private static String commit(String sha, String tree) {
+    return "{\"sha\":\"" + sha + "\",\"commit\":{\"tree\":{\"sha\":\"" + tree + "\"}}}";
+  }
+}
@@ -0,0 +1,36 @@
+package com.axonivy.github.file;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+class TestGitBlob {
+
+  @Test
+  void sha() {
+    // git hash-object of a file containing "hello\n"
+    assertThat(GitBlob.sha(bytes("hello\n"))).isEqualTo("ce013625030ba8dba906f756967f9e9ca394464a");
+    assertThat(GitBlob.sha(new byte[0])).isEqualTo("e69de29bb2d1d6434b8b29ae775ad8c2e48c5391");
+  }
+
+  @Test
+  void lineEndings() {
+    assertThat(GitBlob.toLf(bytes("a\r\nb\rc\n"))).isEqualTo(bytes("a\nb\nc\n"));
+    assertThat(GitBlob.toCrLf(bytes("a\nb\n"))).isEqualTo(bytes("a\r\nb\r\n"));
+  }
+
+  @Test
+  void blobShasOfLfTemplate() throws IOException {
+    var reference = new FileReference(GitHubFiles.LICENSE);
+    var lf = reference.content();
+    assertThat(lf).doesNotContain((byte) '\r');
+    assertThat(reference.blobShas()).containsExactlyInAnyOrder(GitBlob.sha(lf), GitBlob.sha(GitBlob.toCrLf(lf)));
+  }
+
+  private static byte[] bytes(String text) {
+    return text.getBytes(StandardCharsets.UTF_8);
+  }
+}
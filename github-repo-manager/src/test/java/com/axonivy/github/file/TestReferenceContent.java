@@ -0,0 +1,39 @@
+package com.axonivy.github.file;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+class TestReferenceContent {
+
+  @Test
+  void firstDifference() throws IOException {
+    var content = ReferenceContent.of(bytes("line 1\nline 2\n"));
+    assertThat(content.firstDifference(stream("line 1\r\nline 2\r\n"))).isEqualTo(EolInsensitiveComparator.EQUAL);
+    assertThat(content.firstDifference(stream("line 1\rline 2"))).isEqualTo(EolInsensitiveComparator.EQUAL);
+    assertThat(content.firstDifference(stream("line 1\nline 2\n\n"))).isNotEqualTo(EolInsensitiveComparator.EQUAL);
+    assertThat(content.firstDifference(stream("line 1\nline 3\n"))).isEqualTo(12);
+    var crlf = ReferenceContent.of(bytes("line 1\r\nline 2\r\n"));
+    assertThat(crlf.firstDifference(stream("line 1\nline 2\n"))).isEqualTo(EolInsensitiveComparator.EQUAL);
+  }
+
+  @Test
+  void loadedOnce() throws IOException {
+    var license = new FileReference(GitHubFiles.LICENSE).referenceContent();
+    assertThat(new FileReference(GitHubFiles.LICENSE).referenceContent()).isSameAs(license);
+    assertThat(license.blobShas()).hasSize(2).contains(GitBlob.sha(license.toByteArray()));
+  }
+
+  private static InputStream stream(String text) {
+    return new ByteArrayInputStream(bytes(text));
+  }
+
+  private static byte[] bytes(String text) {
+    return text.getBytes(StandardCharsets.UTF_8);
+  }
+}
@@ -0,0 +1,33 @@
+package com.axonivy.github.file;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import com.axonivy.github.connector.StubConnector;
+
+class TestRepoTree {
+
+  private static final String HEAD = "6e98290e0c1d3b1b8d8d5a6f0b1c2d3e4f5a6b7c";
+  private static final String BLOB = "940bd336248efae0f9ee5bc7b2d5c985887b16ac";
+
+  @Test
+  void loadAtHead() throws IOException {
+    var github = new StubConnector()
+        .answer("GET /repos/axonivy/tree-at-head", "{\"id\":1,\"name\":\"tree-at-head\",\"full_name\":\"axonivy/tree-at-head\","
+            + "\"default_branch\":\"master\",\"owner\":{\"login\":\"axonivy\"}}")
+        .answer("GET /repos/axonivy/tree-at-head/git/trees/" + HEAD + "?recursive=1", "{\"sha\":\"tree0\",\"truncated\":false,"
+            + "\"tree\":[{\"path\":\"LICENSE\",\"type\":\"blob\",\"sha\":\"" + BLOB + "\"}]}");
+    var repo = github.github().getRepository("axonivy/tree-at-head");
+
+    var tree = RepoTree.load(repo, HEAD, Set.of("LICENSE", "SECURITY.md"));
+
+    assertThat(tree.ref()).isEqualTo(HEAD);
+    assertThat(tree.blobSha("LICENSE")).contains(BLOB);
+    assertThat(tree.isMissing("SECURITY.md")).isTrue();
+    assertThat(RepoTree.unknown(repo, null).ref()).isEqualTo("master");
+  }
+}
@@ -0,0 +1,44 @@
+package com.axonivy.github.file;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.axonivy.github.connector.StubConnector;
+import com.axonivy.github.connector.StubConnector.Reply;
+
+class TestRepositorySource {
+
+  private static final String PAGE_1 = "GET /orgs/axonivy/repos?per_page=100";
+  private static final String PAGE_2 = "GET /organizations/1/repos?per_page=100&page=2";
+
+  @Test
+  void forEach() throws IOException {
+    var next = "<https://api.github.com/organizations/1/repos?per_page=100&page=2>; rel=\"next\"";
+    var github = new StubConnector()
+        .answer("GET /orgs/axonivy", "{\"id\":1,\"login\":\"axonivy\"}")
+        .answer(PAGE_1, body -> new Reply(200, "[" + repo("core", false, false) + "," + repo(".github", false, false) + ","
+            + repo("secret", true, false) + "]", Map.of("Link", List.of(next))))
+        .answer(PAGE_2, "[" + repo("old", false, true) + "," + repo("webeditor", false, false) + "]");
+
+    var accepted = new ArrayList<String>();
+    new RepositorySource(github.github()).forEach(List.of("axonivy"), repo -> {
+      var pageLoaded = github.requests().contains(PAGE_2) ? 2 : 1;
+      accepted.add(repo.getName() + "@" + pageLoaded);
+    });
+
+    assertThat(accepted).containsExactly("core@1", "webeditor@2");
+    assertThat(github.requests()).containsExactly("GET /orgs/axonivy", PAGE_1, PAGE_2);
+  }
+
+  private static String repo(String name, boolean privateRepo, boolean archived) {
+    return """
+        {"id":%d,"name":"%s","full_name":"axonivy/%s","private":%s,"archived":%s,"default_branch":"master"}
+        """.formatted(name.hashCode(), name, name, privateRepo, archived).trim();
+  }
+}
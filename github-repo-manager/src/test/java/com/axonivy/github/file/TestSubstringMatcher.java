@@ -0,0 +1,27 @@
+package com.axonivy.github.file;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class TestSubstringMatcher {
+
+  @Test
+  void longestIn() {
+    var matcher = new SubstringMatcher(List.of("he", "she", "his", "hers", "market", "marketplace"));
+    assertThat(matcher.longestIn("ushers")).contains("hers");
+    assertThat(matcher.longestIn("this")).contains("his");
+    assertThat(matcher.longestIn("axonivy-market/marketplace-ui")).contains("marketplace");
+    assertThat(matcher.longestIn("axonivy-market/portal")).contains("market");
+    assertThat(matcher.longestIn("portal")).isEmpty();
+  }
+
+  @Test
+  void sameLengthAlphabetically() {
+    var matcher = new SubstringMatcher(List.of("xyz", "abc"));
+    assertThat(matcher.longestIn("xyz-abc")).contains("abc");
+    assertThat(new SubstringMatcher(List.of()).longestIn("abc")).isEmpty();
+  }
+}
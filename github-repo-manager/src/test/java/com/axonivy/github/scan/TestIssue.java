@@ -25,4 +25,14 @@ class TestIssue {
     assertThat(Issue.fromString("XIVY-1XIVY-2")).contains(new Issue("XIVY", 1), new Issue("XIVY", 2));
     assertThat(Issue.fromString("blah XIVY-123 gugus XIVY-456 sugus XIVY-789")).contains(new Issue("XIVY", 123), new Issue("XIVY", 456), new Issue("XIVY", 789));
   }
+
+  @Test
+  void fromString_ignoreCase() {
+    assertThat(Issue.fromString("fix xivy-42 and Xivy-43")).containsExactly(new Issue("XIVY", 42), new Issue("XIVY", 43));
+  }
+
+  @Test
+  void fromString_overflow() {
+    assertThat(Issue.fromString("XIVY-99999999999 XIVY-7")).containsExactly(new Issue("XIVY", 7));
+  }
 }
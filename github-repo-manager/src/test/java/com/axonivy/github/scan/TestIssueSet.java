@@ -0,0 +1,44 @@
+package com.axonivy.github.scan;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+
+class TestIssueSet {
+
+  @Test
+  void scan() {
+    var issues = IssueSet.scan("XIVY-3 xivy-1\nXIVY-3 XIVY-0");
+    assertThat(issues.size()).isEqualTo(3);
+    assertThat(issues).containsExactly(new Issue("XIVY", 0), new Issue("XIVY", 1), new Issue("XIVY", 3));
+    assertThat(issues.contains(new Issue("XIVY", 1))).isTrue();
+    assertThat(issues.contains(new Issue("XIVY", 2))).isFalse();
+    assertThat(issues.contains(new Issue("OTHER", 1))).isFalse();
+  }
+
+  @Test
+  void grow() {
+    var issues = new IssueSet();
+    for (var i = 0; i < 10_000; i++) {
+      assertThat(issues.add(new Issue("XIVY", i))).isTrue();
+    }
+    assertThat(issues.add(new Issue("XIVY", 42))).isFalse();
+    assertThat(issues.size()).isEqualTo(10_000);
+    assertThat(issues.sortedKeys()).isSorted();
+  }
+
+  @Test
+  void addAll() {
+    var issues = IssueSet.scan("XIVY-1 XIVY-2");
+    issues.addAll(IssueSet.scan("XIVY-2 XIVY-3"));
+    assertThat(issues).containsExactly(new Issue("XIVY", 1), new Issue("XIVY", 2), new Issue("XIVY", 3));
+  }
+
+  @Test
+  void key() {
+    var issue = new Issue("XIVY", Integer.MAX_VALUE);
+    assertThat(IssueSet.issue(issue.key())).isEqualTo(issue);
+    assertThatThrownBy(() -> new Issue("OTHER", 1).key()).isInstanceOf(IllegalArgumentException.class);
+  }
+}
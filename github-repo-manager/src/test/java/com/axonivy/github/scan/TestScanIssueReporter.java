@@ -0,0 +1,71 @@
+package com.axonivy.github.scan;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class TestScanIssueReporter {
+
+  @TempDir
+  Path dir;
+
+  @Test
+  void html() throws IOException {
+    var file = dir.resolve("report.html");
+    try (var reporter = new ScanIssueReporter(file)) {
+      reporter.print("Start");
+      reporter.report("v10.0.0", Set.of(new Issue("XIVY", 1)), Set.of(new Issue("XIVY", 2)));
+    }
+    assertThat(Files.readString(file))
+        .startsWith("Start<br /><br /><br /><b>Issues Report</b><br />Found 2 issues since tag v10.0.0<br />")
+        .contains("<tr><td><a target=\"_blank\" href=\"https://1ivy.atlassian.net/browse/XIVY-1\">XIVY-1</a></td>"
+            + "<td><span style=\"color: green;\">Log &#x2713;<span></td>"
+            + "<td><span style=\"color: red;\">Release Notes &#x2715;<span></td></tr>")
+        .endsWith("</tbody></table>");
+  }
+
+  @Test
+  void markdown() throws IOException {
+    var file = dir.resolve("report.md");
+    try (var reporter = new ScanIssueReporter(file)) {
+      reporter.report("v10.0.0", Set.of(new Issue("XIVY", 1)), Set.of());
+    }
+    assertThat(Files.readString(file))
+        .contains("| [XIVY-1](https://1ivy.atlassian.net/browse/XIVY-1) | ✓ | ✕ |");
+  }
+
+  @Test
+  void json() throws IOException {
+    var file = dir.resolve("report.json");
+    try (var reporter = new ScanIssueReporter(file)) {
+      reporter.print("Start");
+      reporter.report("v10.0.0", Set.of(new Issue("XIVY", 1)), Set.of(new Issue("XIVY", 1)));
+    }
+    var json = new ObjectMapper().readTree(file.toFile());
+    assertThat(json.get("messages").get(0).get("message").asText()).isEqualTo("Start");
+    assertThat(json.get("tag").asText()).isEqualTo("v10.0.0");
+    var issue = json.get("issues").get(0);
+    assertThat(issue.get("issue").asText()).isEqualTo("XIVY-1");
+    assertThat(issue.get("log").asBoolean()).isTrue();
+    assertThat(issue.get("releaseNotes").asBoolean()).isTrue();
+  }
+
+  @Test
+  void closeOpenedOnFailure() throws IOException {
+    var json = dir.resolve("report.json");
+    var unwritable = Files.createDirectory(dir.resolve("report.md"));
+    assertThatThrownBy(() -> new ScanIssueReporter(json, unwritable))
+        .isInstanceOf(UncheckedIOException.class);
+    assertThat(new ObjectMapper().readTree(json.toFile()).get("messages")).isEmpty();
+  }
+}
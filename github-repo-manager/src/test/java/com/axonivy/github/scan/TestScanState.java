@@ -0,0 +1,50 @@
+package com.axonivy.github.scan;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.axonivy.github.scan.ScanState.Cursor;
+
+class TestScanState {
+
+  @TempDir
+  Path dir;
+
+  @Test
+  void missingFile() throws IOException {
+    var state = ScanState.load(dir.resolve("state.json"));
+    assertThat(state.cursor("core", "master")).isEmpty();
+  }
+
+  @Test
+  void saveAndLoad() throws IOException {
+    var file = dir.resolve("state.json");
+    var state = ScanState.load(file);
+    var issues = IssueSet.of(List.of(new Issue("XIVY", 12), new Issue("XIVY", 3)));
+    state.update("core", "release/10.0", Cursor.of("v10.0.0", "abc", "def", issues));
+    state.save();
+
+    var cursor = ScanState.load(file).cursor("core", "release/10.0");
+    assertThat(cursor).isPresent();
+    assertThat(cursor.get().tagSha()).isEqualTo("abc");
+    assertThat(cursor.get().headSha()).isEqualTo("def");
+    assertThat(cursor.get().toIssues()).containsExactly(new Issue("XIVY", 3), new Issue("XIVY", 12));
+    assertThat(ScanState.load(file).cursor("core", "master")).isEmpty();
+  }
+
+  @Test
+  void remove() throws IOException {
+    var file = dir.resolve("state.json");
+    var state = ScanState.load(file);
+    state.update("core", "master", Cursor.of("v10.0.0", "abc", "def", new IssueSet()));
+    state.update("core", "master", null);
+    state.save();
+    assertThat(ScanState.load(file).cursor("core", "master")).isEmpty();
+  }
+}